@@ -0,0 +1,33 @@
+package pt.ipp.estg.data.structures.Bag;
+
+import java.util.Iterator;
+
+public interface BagADT<T> {
+    void add(T element);
+
+    void add(T element, int occurrences);
+
+    boolean remove(T element);
+
+    int remove(T element, int occurrences);
+
+    T removeRandom();
+
+    int count(T element);
+
+    void setCount(T element, int count);
+
+    boolean contains(T element);
+
+    Iterable<T> elements();
+
+    int uniqueSize();
+
+    boolean isEmpty();
+
+    int size();
+
+    Iterator<T> iterator();
+
+    String toString();
+}
@@ -0,0 +1,166 @@
+package pt.ipp.estg.data.structures.Bag;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+import pt.ipp.estg.data.structures.Exceptions.EmptyBagException;
+import pt.ipp.estg.data.structures.Map.HashMap;
+import pt.ipp.estg.data.structures.Map.MapADT;
+
+import java.util.Iterator;
+import java.util.Random;
+
+public class HashBag<T> implements BagADT<T> {
+    private static final Random rand = new Random();
+    private final HashMap<T, Count> counts;
+    private int size;
+
+    public HashBag() {
+        this.counts = new HashMap<>();
+        this.size = 0;
+    }
+
+    public void add(T element) {
+        this.add(element, 1);
+    }
+
+    public void add(T element, int occurrences) {
+        if (occurrences < 0) throw new IllegalArgumentException("Illegal occurrences: " + occurrences);
+        if (occurrences == 0) return;
+
+        Count count = this.counts.computeIfAbsent(element, key -> new Count());
+        count.value += occurrences;
+        this.size += occurrences;
+    }
+
+    public boolean remove(T element) {
+        return this.remove(element, 1) > 0;
+    }
+
+    public int remove(T element, int occurrences) {
+        if (occurrences < 0) throw new IllegalArgumentException("Illegal occurrences: " + occurrences);
+
+        Count count = this.counts.get(element);
+
+        if (count == null) return 0;
+
+        int removed = Math.min(count.value, occurrences);
+        count.value -= removed;
+        this.size -= removed;
+
+        if (count.value == 0) this.counts.remove(element);
+
+        return removed;
+    }
+
+    public T removeRandom() {
+        if (this.isEmpty()) throw new EmptyBagException();
+
+        int choice = rand.nextInt(this.size);
+
+        for (MapADT.Entry<T, Count> entry : this.counts.entries()) {
+            choice -= entry.getValue().value;
+
+            if (choice < 0) {
+                T result = entry.getKey();
+                this.remove(result);
+                return result;
+            }
+        }
+
+        throw new ElementNotFoundException("Bag");
+    }
+
+    public int count(T element) {
+        Count count = this.counts.get(element);
+
+        return count == null ? 0 : count.value;
+    }
+
+    public void setCount(T element, int count) {
+        if (count < 0) throw new IllegalArgumentException("Illegal count: " + count);
+
+        int current = this.count(element);
+
+        if (count > current) {
+            this.add(element, count - current);
+        } else {
+            this.remove(element, current - count);
+        }
+    }
+
+    public boolean contains(T element) {
+        return this.counts.containsKey(element);
+    }
+
+    public Iterable<T> elements() {
+        return this.counts.keys();
+    }
+
+    public int uniqueSize() {
+        return this.counts.size();
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public Iterator<T> iterator() {
+        return new BagIterator();
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (MapADT.Entry<T, Count> entry : this.counts.entries()) {
+            sb.append(entry.getKey());
+            sb.append(" x ");
+            sb.append(entry.getValue().value);
+            sb.append(", ");
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private static class Count {
+        private int value;
+    }
+
+    private class BagIterator implements Iterator<T> {
+        private final Iterator<MapADT.Entry<T, Count>> entries;
+        private T current;
+        private int remaining;
+
+        public BagIterator() {
+            this.entries = HashBag.this.counts.entries().iterator();
+            this.current = null;
+            this.remaining = 0;
+        }
+
+        public boolean hasNext() {
+            return this.remaining > 0 || this.entries.hasNext();
+        }
+
+        public T next() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Bag");
+
+            if (this.remaining == 0) {
+                MapADT.Entry<T, Count> entry = this.entries.next();
+                this.current = entry.getKey();
+                this.remaining = entry.getValue().value;
+            }
+
+            this.remaining--;
+            return this.current;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
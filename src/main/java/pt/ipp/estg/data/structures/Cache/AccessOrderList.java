@@ -0,0 +1,80 @@
+package pt.ipp.estg.data.structures.Cache;
+
+class AccessOrderList<K, V> {
+    private CacheNode<K, V> front;
+    private CacheNode<K, V> rear;
+    private int count;
+
+    public AccessOrderList() {
+        this.clear();
+    }
+
+    public void addToFront(CacheNode<K, V> node) {
+        node.setPrevious(null);
+        node.setNext(this.front);
+
+        if (this.front == null) {
+            this.rear = node;
+        } else {
+            this.front.setPrevious(node);
+        }
+
+        this.front = node;
+        this.count++;
+    }
+
+    public void remove(CacheNode<K, V> node) {
+        if (node.getPrevious() == null) {
+            this.front = node.getNext();
+        } else {
+            node.getPrevious().setNext(node.getNext());
+        }
+
+        if (node.getNext() == null) {
+            this.rear = node.getPrevious();
+        } else {
+            node.getNext().setPrevious(node.getPrevious());
+        }
+
+        node.setPrevious(null);
+        node.setNext(null);
+        this.count--;
+    }
+
+    public void moveToFront(CacheNode<K, V> node) {
+        if (node == this.front) return;
+
+        this.remove(node);
+        this.addToFront(node);
+    }
+
+    public CacheNode<K, V> last() {
+        return this.rear;
+    }
+
+    public CacheNode<K, V> removeLast() {
+        CacheNode<K, V> node = this.rear;
+
+        if (node != null) this.remove(node);
+
+        return node;
+    }
+
+    public CacheNode<K, V> first() {
+        return this.front;
+    }
+
+    public void clear() {
+        this.front = null;
+        this.rear = null;
+        this.count = 0;
+    }
+
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    public int size() {
+        return this.count;
+    }
+}
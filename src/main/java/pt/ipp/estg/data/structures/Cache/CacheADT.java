@@ -0,0 +1,23 @@
+package pt.ipp.estg.data.structures.Cache;
+
+public interface CacheADT<K, V> {
+    V get(K key);
+
+    void put(K key, V value);
+
+    void remove(K key);
+
+    boolean containsKey(K key);
+
+    void clear();
+
+    boolean isEmpty();
+
+    int size();
+
+    int capacity();
+
+    CacheStatistics getStatistics();
+
+    String toString();
+}
@@ -0,0 +1,53 @@
+package pt.ipp.estg.data.structures.Cache;
+
+class CacheNode<K, V> {
+    private final K key;
+    private V value;
+    private int segment;
+    private CacheNode<K, V> previous;
+    private CacheNode<K, V> next;
+
+    public CacheNode(K key, V value) {
+        this.key = key;
+        this.value = value;
+        this.segment = 0;
+        this.previous = null;
+        this.next = null;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public V getValue() {
+        return value;
+    }
+
+    public void setValue(V value) {
+        this.value = value;
+    }
+
+    public int getSegment() {
+        return segment;
+    }
+
+    public void setSegment(int segment) {
+        this.segment = segment;
+    }
+
+    public CacheNode<K, V> getPrevious() {
+        return previous;
+    }
+
+    public void setPrevious(CacheNode<K, V> previous) {
+        this.previous = previous;
+    }
+
+    public CacheNode<K, V> getNext() {
+        return next;
+    }
+
+    public void setNext(CacheNode<K, V> next) {
+        this.next = next;
+    }
+}
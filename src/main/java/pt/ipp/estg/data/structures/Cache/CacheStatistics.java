@@ -0,0 +1,55 @@
+package pt.ipp.estg.data.structures.Cache;
+
+public class CacheStatistics {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public CacheStatistics() {
+        this.reset();
+    }
+
+    void recordHit() {
+        this.hitCount++;
+    }
+
+    void recordMiss() {
+        this.missCount++;
+    }
+
+    void recordEviction() {
+        this.evictionCount++;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getRequestCount() {
+        return this.hitCount + this.missCount;
+    }
+
+    public double hitRate() {
+        long requests = this.getRequestCount();
+
+        return requests == 0 ? 1.0 : (1.0 * this.hitCount) / requests;
+    }
+
+    public void reset() {
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.evictionCount = 0;
+    }
+
+    public String toString() {
+        return "hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions=" + this.evictionCount + ", hitRate=" + this.hitRate();
+    }
+}
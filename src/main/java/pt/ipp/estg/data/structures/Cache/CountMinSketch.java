@@ -0,0 +1,89 @@
+package pt.ipp.estg.data.structures.Cache;
+
+public class CountMinSketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97CB3127, 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private final long[][] table;
+    private final int shift;
+    private final int sampleSize;
+    private int additions;
+
+    public CountMinSketch(int expectedEntries) {
+        if (expectedEntries <= 0) throw new IllegalArgumentException("Illegal size: " + expectedEntries);
+
+        int width = 16;
+        int bits = 4;
+        while (width < expectedEntries && width < (1 << 30)) {
+            width <<= 1;
+            bits++;
+        }
+
+        this.table = new long[DEPTH][width >>> 4];
+        this.shift = 32 - bits;
+        this.sampleSize = 10 * width;
+        this.additions = 0;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = hash * SEEDS[row];
+        return (h ^ (h >>> 16)) >>> this.shift;
+    }
+
+    private int counter(int row, int index) {
+        return (int) (this.table[row][index >>> 4] >>> ((index & 15) << 2)) & MAX_COUNT;
+    }
+
+    private static int spread(Object element) {
+        int h = element.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public void increment(Object element) {
+        int hash = spread(element);
+        boolean added = false;
+
+        for (int row = 0; row < DEPTH; row++) {
+            int index = this.indexOf(hash, row);
+
+            if (this.counter(row, index) < MAX_COUNT) {
+                this.table[row][index >>> 4] += 1L << ((index & 15) << 2);
+                added = true;
+            }
+        }
+
+        if (added && ++this.additions == this.sampleSize) this.reset();
+    }
+
+    public int frequency(Object element) {
+        int hash = spread(element);
+        int frequency = MAX_COUNT;
+
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, this.counter(row, this.indexOf(hash, row)));
+        }
+
+        return frequency;
+    }
+
+    private void reset() {
+        for (long[] row : this.table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (row[i] >>> 1) & RESET_MASK;
+            }
+        }
+
+        this.additions = this.additions / 2;
+    }
+
+    public void clear() {
+        for (long[] row : this.table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = 0;
+            }
+        }
+
+        this.additions = 0;
+    }
+}
@@ -0,0 +1,100 @@
+package pt.ipp.estg.data.structures.Cache;
+
+import pt.ipp.estg.data.structures.Map.HashMap;
+
+public class LRUCache<K, V> implements CacheADT<K, V> {
+    private final int capacity;
+    private final HashMap<K, CacheNode<K, V>> map;
+    private final AccessOrderList<K, V> order;
+    private final CacheStatistics statistics;
+
+    public LRUCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+
+        this.capacity = capacity;
+        this.map = new HashMap<>();
+        this.order = new AccessOrderList<>();
+        this.statistics = new CacheStatistics();
+    }
+
+    public V get(K key) {
+        CacheNode<K, V> node = this.map.get(key);
+
+        if (node == null) {
+            this.statistics.recordMiss();
+            return null;
+        }
+
+        this.statistics.recordHit();
+        this.order.moveToFront(node);
+
+        return node.getValue();
+    }
+
+    public void put(K key, V value) {
+        CacheNode<K, V> node = this.map.get(key);
+
+        if (node != null) {
+            node.setValue(value);
+            this.order.moveToFront(node);
+            return;
+        }
+
+        if (this.map.size() == this.capacity) {
+            CacheNode<K, V> victim = this.order.removeLast();
+            this.map.remove(victim.getKey());
+            this.statistics.recordEviction();
+        }
+
+        node = new CacheNode<>(key, value);
+        this.order.addToFront(node);
+        this.map.put(key, node);
+    }
+
+    public void remove(K key) {
+        CacheNode<K, V> node = this.map.get(key);
+
+        if (node == null) return;
+
+        this.order.remove(node);
+        this.map.remove(key);
+    }
+
+    public boolean containsKey(K key) {
+        return this.map.containsKey(key);
+    }
+
+    public void clear() {
+        this.map.clear();
+        this.order.clear();
+    }
+
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    public int size() {
+        return this.map.size();
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    public CacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (CacheNode<K, V> node = this.order.first(); node != null; node = node.getNext()) {
+            sb.append(node.getKey()).append("=").append(node.getValue()).append(", ");
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package pt.ipp.estg.data.structures.Cache;
+
+import pt.ipp.estg.data.structures.Map.HashMap;
+
+public class TinyLFUCache<K, V> implements CacheADT<K, V> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+    private final int capacity;
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final int protectedCapacity;
+    private final HashMap<K, CacheNode<K, V>> map;
+    private final AccessOrderList<K, V> window;
+    private final AccessOrderList<K, V> probation;
+    private final AccessOrderList<K, V> protectedSegment;
+    private final CountMinSketch sketch;
+    private final CacheStatistics statistics;
+
+    public TinyLFUCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+
+        this.capacity = capacity;
+        this.windowCapacity = Math.max(1, (int) (capacity * WINDOW_RATIO));
+        this.mainCapacity = capacity - this.windowCapacity;
+        this.protectedCapacity = (int) (this.mainCapacity * PROTECTED_RATIO);
+        this.map = new HashMap<>();
+        this.window = new AccessOrderList<>();
+        this.probation = new AccessOrderList<>();
+        this.protectedSegment = new AccessOrderList<>();
+        this.sketch = new CountMinSketch(capacity);
+        this.statistics = new CacheStatistics();
+    }
+
+    private AccessOrderList<K, V> segmentOf(CacheNode<K, V> node) {
+        if (node.getSegment() == WINDOW) return this.window;
+        if (node.getSegment() == PROBATION) return this.probation;
+
+        return this.protectedSegment;
+    }
+
+    private void onAccess(CacheNode<K, V> node) {
+        if (node.getSegment() == PROBATION) {
+            this.probation.remove(node);
+            node.setSegment(PROTECTED);
+            this.protectedSegment.addToFront(node);
+
+            if (this.protectedSegment.size() > this.protectedCapacity) {
+                CacheNode<K, V> demoted = this.protectedSegment.removeLast();
+                demoted.setSegment(PROBATION);
+                this.probation.addToFront(demoted);
+            }
+        } else {
+            this.segmentOf(node).moveToFront(node);
+        }
+    }
+
+    private void evict(CacheNode<K, V> node) {
+        this.map.remove(node.getKey());
+        this.statistics.recordEviction();
+    }
+
+    private void admit(CacheNode<K, V> candidate) {
+        if (this.probation.size() + this.protectedSegment.size() < this.mainCapacity) {
+            candidate.setSegment(PROBATION);
+            this.probation.addToFront(candidate);
+            return;
+        }
+
+        AccessOrderList<K, V> victimSegment = this.probation.isEmpty() ? this.protectedSegment : this.probation;
+        CacheNode<K, V> victim = victimSegment.last();
+
+        if (victim == null || this.sketch.frequency(candidate.getKey()) <= this.sketch.frequency(victim.getKey())) {
+            this.evict(candidate);
+            return;
+        }
+
+        victimSegment.remove(victim);
+        this.evict(victim);
+
+        candidate.setSegment(PROBATION);
+        this.probation.addToFront(candidate);
+    }
+
+    public V get(K key) {
+        this.sketch.increment(key);
+
+        CacheNode<K, V> node = this.map.get(key);
+
+        if (node == null) {
+            this.statistics.recordMiss();
+            return null;
+        }
+
+        this.statistics.recordHit();
+        this.onAccess(node);
+
+        return node.getValue();
+    }
+
+    public void put(K key, V value) {
+        this.sketch.increment(key);
+
+        CacheNode<K, V> node = this.map.get(key);
+
+        if (node != null) {
+            node.setValue(value);
+            this.onAccess(node);
+            return;
+        }
+
+        node = new CacheNode<>(key, value);
+        node.setSegment(WINDOW);
+        this.window.addToFront(node);
+        this.map.put(key, node);
+
+        if (this.window.size() > this.windowCapacity) this.admit(this.window.removeLast());
+    }
+
+    public void remove(K key) {
+        CacheNode<K, V> node = this.map.get(key);
+
+        if (node == null) return;
+
+        this.segmentOf(node).remove(node);
+        this.map.remove(key);
+    }
+
+    public boolean containsKey(K key) {
+        return this.map.containsKey(key);
+    }
+
+    public void clear() {
+        this.map.clear();
+        this.window.clear();
+        this.probation.clear();
+        this.protectedSegment.clear();
+        this.sketch.clear();
+    }
+
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    public int size() {
+        return this.map.size();
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    public CacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (AccessOrderList<K, V> segment : (AccessOrderList<K, V>[]) new AccessOrderList<?, ?>[]{this.window, this.protectedSegment, this.probation}) {
+            for (CacheNode<K, V> node = segment.first(); node != null; node = node.getNext()) {
+                sb.append(node.getKey()).append("=").append(node.getValue()).append(", ");
+            }
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,433 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.Exceptions.EmptyCollectionException;
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+import pt.ipp.estg.data.structures.Map.HashMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class AdjacencyListGraph<T> implements GraphADT<T> {
+    private static final int[] EMPTY_ROW = new int[0];
+    protected final int DEFAULT_CAPACITY = 16;
+    protected int numVertices;
+    protected T[] vertices;
+    protected int[][] adjacency;
+    protected int[][] twins;
+    protected int[] degrees;
+    private final HashMap<T, Integer> indices;
+
+    public AdjacencyListGraph() {
+        this.numVertices = 0;
+        this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
+        this.adjacency = new int[DEFAULT_CAPACITY][];
+        this.twins = new int[DEFAULT_CAPACITY][];
+        this.degrees = new int[DEFAULT_CAPACITY];
+        this.indices = new HashMap<>();
+        Arrays.fill(this.adjacency, EMPTY_ROW);
+        Arrays.fill(this.twins, EMPTY_ROW);
+    }
+
+    protected void expandCapacity() {
+        int capacity = this.vertices.length * 2;
+
+        this.vertices = Arrays.copyOf(this.vertices, capacity);
+        this.adjacency = Arrays.copyOf(this.adjacency, capacity);
+        this.twins = Arrays.copyOf(this.twins, capacity);
+        this.degrees = Arrays.copyOf(this.degrees, capacity);
+        Arrays.fill(this.adjacency, this.numVertices, capacity, EMPTY_ROW);
+        Arrays.fill(this.twins, this.numVertices, capacity, EMPTY_ROW);
+    }
+
+    protected void growRow(int index) {
+        int capacity = Math.max(4, this.adjacency[index].length * 2);
+
+        this.adjacency[index] = Arrays.copyOf(this.adjacency[index], capacity);
+        this.twins[index] = Arrays.copyOf(this.twins[index], capacity);
+    }
+
+    protected void moveEntry(int index, int from, int to) {
+        int neighbor = this.adjacency[index][from];
+        int twin = this.twins[index][from];
+
+        this.adjacency[index][to] = neighbor;
+
+        if (neighbor == index && twin == from) {
+            this.twins[index][to] = to;
+        } else {
+            this.twins[index][to] = twin;
+            this.twins[neighbor][twin] = to;
+        }
+    }
+
+    protected void moveVertex(int from, int to) {
+        if (from != to) {
+            for (int i = 0; i < this.degrees[from]; i++) {
+                int neighbor = this.adjacency[from][i];
+
+                if (neighbor == from) {
+                    this.adjacency[from][i] = to;
+                } else {
+                    this.adjacency[neighbor][this.twins[from][i]] = to;
+                }
+            }
+
+            this.vertices[to] = this.vertices[from];
+            this.adjacency[to] = this.adjacency[from];
+            this.twins[to] = this.twins[from];
+            this.degrees[to] = this.degrees[from];
+            this.indices.put(this.vertices[to], to);
+        }
+
+        this.vertices[from] = null;
+        this.adjacency[from] = EMPTY_ROW;
+        this.twins[from] = EMPTY_ROW;
+        this.degrees[from] = 0;
+    }
+
+    private int append(int index, int neighbor) {
+        if (this.degrees[index] == this.adjacency[index].length) this.growRow(index);
+
+        int position = this.degrees[index]++;
+        this.adjacency[index][position] = neighbor;
+
+        return position;
+    }
+
+    protected int link(int index1, int index2) {
+        if (this.find(index1, index2) != -1) return -1;
+
+        int position1 = this.append(index1, index2);
+
+        if (index1 == index2) {
+            this.twins[index1][position1] = position1;
+            return position1;
+        }
+
+        int position2 = this.append(index2, index1);
+        this.twins[index1][position1] = position2;
+        this.twins[index2][position2] = position1;
+
+        return position1;
+    }
+
+    protected void unlink(int index, int position) {
+        int last = --this.degrees[index];
+
+        if (position != last) this.moveEntry(index, last, position);
+    }
+
+    protected int find(int index1, int index2) {
+        if (this.degrees[index1] <= this.degrees[index2]) {
+            for (int i = 0; i < this.degrees[index1]; i++) {
+                if (this.adjacency[index1][i] == index2) return i;
+            }
+        } else {
+            for (int i = 0; i < this.degrees[index2]; i++) {
+                if (this.adjacency[index2][i] == index1) return this.twins[index2][i];
+            }
+        }
+
+        return -1;
+    }
+
+    protected int getIndex(T vertex) {
+        if (vertex == null) return -1;
+
+        Integer index = this.indices.get(vertex);
+
+        return index == null ? -1 : index;
+    }
+
+    protected boolean indexInvalid(int index) {
+        return index < 0 || index >= this.numVertices;
+    }
+
+    public void addVertex(T vertex) {
+        if (vertex == null) throw new NullPointerException();
+        if (this.indices.containsKey(vertex)) throw new IllegalArgumentException("Duplicate vertex: " + vertex);
+        if (this.numVertices == this.vertices.length) this.expandCapacity();
+
+        this.vertices[this.numVertices] = vertex;
+        this.indices.put(vertex, this.numVertices);
+        this.numVertices++;
+    }
+
+    public void removeVertex(T vertex) {
+        if (this.isEmpty()) throw new EmptyCollectionException("Graph");
+
+        int pos = this.getIndex(vertex);
+        if (this.indexInvalid(pos)) throw new IllegalArgumentException();
+
+        for (int i = 0; i < this.degrees[pos]; i++) {
+            int neighbor = this.adjacency[pos][i];
+            if (neighbor != pos) this.unlink(neighbor, this.twins[pos][i]);
+        }
+
+        this.indices.remove(vertex);
+        this.moveVertex(this.numVertices - 1, pos);
+        this.numVertices--;
+    }
+
+    public void addEdge(T vertex1, T vertex2) {
+        int index1 = this.getIndex(vertex1);
+        int index2 = this.getIndex(vertex2);
+        if (this.indexInvalid(index1) || this.indexInvalid(index2)) throw new IllegalArgumentException();
+
+        this.link(index1, index2);
+    }
+
+    public void removeEdge(T vertex1, T vertex2) {
+        if (this.isEmpty()) throw new EmptyCollectionException("Graph");
+
+        int index1 = this.getIndex(vertex1);
+        int index2 = this.getIndex(vertex2);
+        if (this.indexInvalid(index1) || this.indexInvalid(index2)) throw new IllegalArgumentException();
+
+        int position = this.find(index1, index2);
+        if (position == -1) throw new IllegalArgumentException();
+
+        if (index1 != index2) this.unlink(index2, this.twins[index1][position]);
+        this.unlink(index1, position);
+    }
+
+    protected Iterator<T> pathIterator(int[] previous, int startIndex, int targetIndex) {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+        if (previous[targetIndex] == -1) return resultList.iterator();
+
+        int length = 1;
+        for (int vertex = targetIndex; vertex != startIndex; vertex = previous[vertex]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        int vertex = targetIndex;
+
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = vertex;
+            vertex = previous[vertex];
+        }
+
+        for (int i = 0; i < length; i++) {
+            resultList.addToRear(this.vertices[path[i]]);
+        }
+
+        return resultList.iterator();
+    }
+
+    public Iterator<T> iteratorBFS(T startVertex) {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        if (this.indexInvalid(startIndex)) return resultList.iterator();
+
+        int[] queue = new int[this.numVertices];
+        boolean[] visited = new boolean[this.numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = startIndex;
+        visited[startIndex] = true;
+
+        while (head < tail) {
+            int currentVertex = queue[head++];
+            resultList.addToRear(this.vertices[currentVertex]);
+
+            for (int i = 0; i < this.degrees[currentVertex]; i++) {
+                int neighbor = this.adjacency[currentVertex][i];
+
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    public Iterator<T> iteratorDFS(T startVertex) {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        if (this.indexInvalid(startIndex)) return resultList.iterator();
+
+        int[] stack = new int[16];
+        boolean[] visited = new boolean[this.numVertices];
+        int top = 0;
+
+        stack[top++] = startIndex;
+
+        while (top > 0) {
+            int currentVertex = stack[--top];
+            if (visited[currentVertex]) continue;
+
+            visited[currentVertex] = true;
+            resultList.addToRear(this.vertices[currentVertex]);
+
+            for (int i = this.degrees[currentVertex] - 1; i >= 0; i--) {
+                int neighbor = this.adjacency[currentVertex][i];
+
+                if (!visited[neighbor]) {
+                    if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = neighbor;
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    private int[] breadthFirst(int startIndex, int targetIndex) {
+        int[] queue = new int[this.numVertices];
+        int[] previous = new int[this.numVertices];
+        boolean[] visited = new boolean[this.numVertices];
+        int head = 0;
+        int tail = 0;
+
+        Arrays.fill(previous, -1);
+        queue[tail++] = startIndex;
+        visited[startIndex] = true;
+
+        while (head < tail && !visited[targetIndex]) {
+            int currentVertex = queue[head++];
+
+            for (int i = 0; i < this.degrees[currentVertex]; i++) {
+                int neighbor = this.adjacency[currentVertex][i];
+
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    previous[neighbor] = currentVertex;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return previous;
+    }
+
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return new UnorderedArrayList<T>().iterator();
+
+        return this.pathIterator(this.breadthFirst(startIndex, targetIndex), startIndex, targetIndex);
+    }
+
+    public int shortestPathLength(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return -1;
+
+        int[] previous = this.breadthFirst(startIndex, targetIndex);
+        if (previous[targetIndex] == -1) return -1;
+
+        int length = 0;
+        for (int vertex = targetIndex; vertex != startIndex; vertex = previous[vertex]) {
+            length++;
+        }
+
+        return length;
+    }
+
+    public Iterator<T> getAdjacentVertices(T vertex) {
+        if (this.isEmpty()) throw new EmptyCollectionException("Graph");
+
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        int pos = this.getIndex(vertex);
+        if (this.indexInvalid(pos)) return resultList.iterator();
+
+        for (int i = 0; i < this.degrees[pos]; i++) {
+            resultList.addToRear(this.vertices[this.adjacency[pos][i]]);
+        }
+
+        return resultList.iterator();
+    }
+
+    public Iterator<T> getVertices() {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        for (int i = 0; i < this.numVertices; i++) {
+            resultList.addToRear(this.vertices[i]);
+        }
+
+        return resultList.iterator();
+    }
+
+    public boolean isConnected() {
+        if (this.isEmpty()) return false;
+
+        int[] queue = new int[this.numVertices];
+        boolean[] visited = new boolean[this.numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = 0;
+        visited[0] = true;
+
+        while (head < tail) {
+            int currentVertex = queue[head++];
+
+            for (int i = 0; i < this.degrees[currentVertex]; i++) {
+                int neighbor = this.adjacency[currentVertex][i];
+
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return tail == this.numVertices;
+    }
+
+    public int getDegree(T vertex) {
+        int pos = this.getIndex(vertex);
+        if (this.indexInvalid(pos)) throw new IllegalArgumentException();
+
+        return this.degrees[pos];
+    }
+
+    public boolean isEmpty() {
+        return this.numVertices == 0;
+    }
+
+    public int size() {
+        return this.numVertices;
+    }
+
+    public String toString() {
+        if (this.numVertices == 0) return "Graph is empty";
+
+        StringBuilder result = new StringBuilder();
+
+        result.append("Adjacency Lists\n");
+        result.append("---------------\n");
+        result.append("index\tneighbors\n\n");
+
+        for (int i = 0; i < this.numVertices; i++) {
+            result.append(i).append("\t");
+
+            for (int j = 0; j < this.degrees[i]; j++) {
+                result.append(this.adjacency[i][j]).append(" ");
+            }
+            result.append("\n");
+        }
+
+        result.append("\n\nVertex Values");
+        result.append("\n-------------\n");
+        result.append("index\tvalue\n\n");
+
+        for (int i = 0; i < this.numVertices; i++) {
+            result.append(i).append("\t");
+            result.append(this.vertices[i].toString()).append("\n");
+        }
+        result.append("\n");
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class AdjacencyListNetwork<T> extends AdjacencyListGraph<T> implements NetworkADT<T> {
+    private static final double[] EMPTY_WEIGHTS = new double[0];
+    protected double[][] weights;
+
+    public AdjacencyListNetwork() {
+        super();
+        this.weights = new double[super.vertices.length][];
+        Arrays.fill(this.weights, EMPTY_WEIGHTS);
+    }
+
+    protected void expandCapacity() {
+        super.expandCapacity();
+
+        this.weights = Arrays.copyOf(this.weights, super.vertices.length);
+        Arrays.fill(this.weights, super.numVertices, super.vertices.length, EMPTY_WEIGHTS);
+    }
+
+    protected void growRow(int index) {
+        super.growRow(index);
+
+        this.weights[index] = Arrays.copyOf(this.weights[index], super.adjacency[index].length);
+    }
+
+    protected void moveEntry(int index, int from, int to) {
+        super.moveEntry(index, from, to);
+
+        this.weights[index][to] = this.weights[index][from];
+    }
+
+    protected void moveVertex(int from, int to) {
+        super.moveVertex(from, to);
+
+        if (from != to) this.weights[to] = this.weights[from];
+        this.weights[from] = EMPTY_WEIGHTS;
+    }
+
+    public void addEdge(T vertex1, T vertex2) {
+        this.addEdge(vertex1, vertex2, 1.0);
+    }
+
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        int index1 = super.getIndex(vertex1);
+        int index2 = super.getIndex(vertex2);
+        if (super.indexInvalid(index1) || super.indexInvalid(index2)) throw new IllegalArgumentException();
+        if (!(weight >= 0)) throw new IllegalArgumentException("Illegal weight: " + weight);
+
+        int position = super.link(index1, index2);
+        if (position == -1) return;
+
+        this.weights[index1][position] = weight;
+        this.weights[index2][super.twins[index1][position]] = weight;
+    }
+
+    public double getWeight(T vertex1, T vertex2) {
+        int index1 = super.getIndex(vertex1);
+        int index2 = super.getIndex(vertex2);
+        if (super.indexInvalid(index1) || super.indexInvalid(index2)) throw new IllegalArgumentException();
+
+        int position = super.find(index1, index2);
+
+        return position == -1 ? Double.POSITIVE_INFINITY : this.weights[index1][position];
+    }
+
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : super.getIndex(startVertex);
+        int targetIndex = super.getIndex(targetVertex);
+        if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return new UnorderedArrayList<T>().iterator();
+
+        return PathSearch.aStar(new Adjacency(), super.vertices, startIndex, targetIndex, null).iterator();
+    }
+
+    public double shortestPathWeight(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : super.getIndex(startVertex);
+        int targetIndex = super.getIndex(targetVertex);
+        if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex) || (startIndex == targetIndex)) return -1;
+
+        return PathSearch.aStar(new Adjacency(), super.vertices, startIndex, targetIndex, null).getWeight();
+    }
+
+    public PathResult<T> shortestPath(T startVertex, T targetVertex, ShortestPathMode mode) {
+        int startIndex = super.getIndex(startVertex);
+        int targetIndex = super.getIndex(targetVertex);
+        if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+
+        return PathSearch.search(new Adjacency(), super.vertices, startIndex, targetIndex, mode);
+    }
+
+    public PathResult<T> shortestPath(T startVertex, T targetVertex, Heuristic<T> heuristic) {
+        int startIndex = super.getIndex(startVertex);
+        int targetIndex = super.getIndex(targetVertex);
+        if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+        if (heuristic == null) throw new NullPointerException();
+
+        return PathSearch.aStar(new Adjacency(), super.vertices, startIndex, targetIndex, heuristic);
+    }
+
+    WeightedAdjacency adjacency() {
+        return new Adjacency();
+    }
+
+    public String toString() {
+        if (super.numVertices == 0) return "Graph is empty";
+
+        StringBuilder result = new StringBuilder(super.toString());
+
+        result.append("\nWeights of Edges");
+        result.append("\n----------------\n");
+        result.append("index\tweight\n\n");
+
+        for (int i = 0; i < super.numVertices; i++) {
+            for (int j = 0; j < super.degrees[i]; j++) {
+                if (super.adjacency[i][j] >= i) {
+                    result.append(i).append(" to ").append(super.adjacency[i][j]).append("\t");
+                    result.append(this.weights[i][j]).append("\n");
+                }
+            }
+        }
+
+        result.append("\n");
+
+        return result.toString();
+    }
+
+    private class Adjacency implements WeightedAdjacency {
+        public int vertexCount() {
+            return AdjacencyListNetwork.this.numVertices;
+        }
+
+        public int slotCount(int vertex) {
+            return AdjacencyListNetwork.this.degrees[vertex];
+        }
+
+        public int neighbor(int vertex, int slot) {
+            return AdjacencyListNetwork.this.adjacency[vertex][slot];
+        }
+
+        public double weight(int vertex, int slot) {
+            return AdjacencyListNetwork.this.weights[vertex][slot];
+        }
+    }
+}
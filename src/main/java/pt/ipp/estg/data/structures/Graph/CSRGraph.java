@@ -0,0 +1,339 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.Exceptions.EmptyCollectionException;
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+import pt.ipp.estg.data.structures.Map.HashMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class CSRGraph<T> implements GraphADT<T> {
+    protected final T[] vertices;
+    protected final int[] offsets;
+    protected final int[] neighbors;
+    protected final int numVertices;
+    private final HashMap<T, Integer> indices;
+
+    protected CSRGraph(T[] vertices, HashMap<T, Integer> indices, CompressedRows rows) {
+        this.vertices = vertices;
+        this.numVertices = vertices.length;
+        this.indices = indices;
+        this.offsets = rows.offsets;
+        this.neighbors = rows.neighbors;
+    }
+
+    public static <T> CSRGraph<T> fromGraph(Graph<T> graph) {
+        T[] vertices = copyVertices(graph);
+
+        return new CSRGraph<>(vertices, indexVertices(vertices), CompressedRows.fromGraph(graph));
+    }
+
+    public static <T> CSRGraph<T> fromEdges(T[] vertices, int[] sources, int[] targets) {
+        T[] copy = Arrays.copyOf(vertices, vertices.length);
+
+        return new CSRGraph<>(copy, indexVertices(copy), CompressedRows.fromEdges(copy.length, sources, targets, null));
+    }
+
+    public static <T> CSRGraph<T> fromEdges(T[] vertices, T[] sources, T[] targets) {
+        T[] copy = Arrays.copyOf(vertices, vertices.length);
+        HashMap<T, Integer> indices = indexVertices(copy);
+        CompressedRows rows = CompressedRows.fromEdges(copy.length, resolve(indices, sources), resolve(indices, targets), null);
+
+        return new CSRGraph<>(copy, indices, rows);
+    }
+
+    static <T> T[] copyVertices(Graph<T> graph) {
+        return Arrays.copyOf(graph.vertices, graph.numVertices);
+    }
+
+    static <T> HashMap<T, Integer> indexVertices(T[] vertices) {
+        HashMap<T, Integer> indices = new HashMap<>(vertices.length);
+
+        for (int i = 0; i < vertices.length; i++) {
+            if (vertices[i] == null) throw new NullPointerException();
+            if (indices.putIfAbsent(vertices[i], i) != null) throw new IllegalArgumentException("Duplicate vertex: " + vertices[i]);
+        }
+
+        return indices;
+    }
+
+    static <T> int[] resolve(HashMap<T, Integer> indices, T[] endpoints) {
+        int[] result = new int[endpoints.length];
+
+        for (int i = 0; i < endpoints.length; i++) {
+            Integer index = endpoints[i] == null ? null : indices.get(endpoints[i]);
+            if (index == null) throw new IllegalArgumentException("Unknown vertex: " + endpoints[i]);
+
+            result[i] = index;
+        }
+
+        return result;
+    }
+
+    protected int getIndex(T vertex) {
+        if (vertex == null) return -1;
+
+        Integer index = this.indices.get(vertex);
+
+        return index == null ? -1 : index;
+    }
+
+    protected boolean indexInvalid(int index) {
+        return index < 0 || index >= this.numVertices;
+    }
+
+    protected Iterator<T> pathIterator(int[] previous, int startIndex, int targetIndex) {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+        if (previous[targetIndex] == -1) return resultList.iterator();
+
+        int length = 1;
+        for (int vertex = targetIndex; vertex != startIndex; vertex = previous[vertex]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        int vertex = targetIndex;
+
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = vertex;
+            vertex = previous[vertex];
+        }
+
+        for (int i = 0; i < length; i++) {
+            resultList.addToRear(this.vertices[path[i]]);
+        }
+
+        return resultList.iterator();
+    }
+
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void removeVertex(T vertex) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void removeEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Iterator<T> iteratorBFS(T startVertex) {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        if (this.indexInvalid(startIndex)) return resultList.iterator();
+
+        int[] queue = new int[this.numVertices];
+        boolean[] visited = new boolean[this.numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = startIndex;
+        visited[startIndex] = true;
+
+        while (head < tail) {
+            int currentVertex = queue[head++];
+            resultList.addToRear(this.vertices[currentVertex]);
+
+            for (int edge = this.offsets[currentVertex]; edge < this.offsets[currentVertex + 1]; edge++) {
+                int neighbor = this.neighbors[edge];
+
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    public Iterator<T> iteratorDFS(T startVertex) {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        if (this.indexInvalid(startIndex)) return resultList.iterator();
+
+        int[] stack = new int[this.neighbors.length + 1];
+        boolean[] visited = new boolean[this.numVertices];
+        int top = 0;
+
+        stack[top++] = startIndex;
+
+        while (top > 0) {
+            int currentVertex = stack[--top];
+            if (visited[currentVertex]) continue;
+
+            visited[currentVertex] = true;
+            resultList.addToRear(this.vertices[currentVertex]);
+
+            for (int edge = this.offsets[currentVertex + 1] - 1; edge >= this.offsets[currentVertex]; edge--) {
+                int neighbor = this.neighbors[edge];
+
+                if (!visited[neighbor]) {
+                    stack[top++] = neighbor;
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    private int[] breadthFirst(int startIndex, int targetIndex) {
+        int[] queue = new int[this.numVertices];
+        int[] previous = new int[this.numVertices];
+        boolean[] visited = new boolean[this.numVertices];
+        int head = 0;
+        int tail = 0;
+
+        Arrays.fill(previous, -1);
+        queue[tail++] = startIndex;
+        visited[startIndex] = true;
+
+        while (head < tail && !visited[targetIndex]) {
+            int currentVertex = queue[head++];
+
+            for (int edge = this.offsets[currentVertex]; edge < this.offsets[currentVertex + 1]; edge++) {
+                int neighbor = this.neighbors[edge];
+
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    previous[neighbor] = currentVertex;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return previous;
+    }
+
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return new UnorderedArrayList<T>().iterator();
+
+        return this.pathIterator(this.breadthFirst(startIndex, targetIndex), startIndex, targetIndex);
+    }
+
+    public int shortestPathLength(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return -1;
+
+        int[] previous = this.breadthFirst(startIndex, targetIndex);
+        if (previous[targetIndex] == -1) return -1;
+
+        int length = 0;
+        for (int vertex = targetIndex; vertex != startIndex; vertex = previous[vertex]) {
+            length++;
+        }
+
+        return length;
+    }
+
+    public Iterator<T> getAdjacentVertices(T vertex) {
+        if (this.isEmpty()) throw new EmptyCollectionException("Graph");
+
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        int pos = this.getIndex(vertex);
+        if (this.indexInvalid(pos)) return resultList.iterator();
+
+        for (int edge = this.offsets[pos]; edge < this.offsets[pos + 1]; edge++) {
+            resultList.addToRear(this.vertices[this.neighbors[edge]]);
+        }
+
+        return resultList.iterator();
+    }
+
+    public Iterator<T> getVertices() {
+        UnorderedListADT<T> resultList = new UnorderedArrayList<>();
+
+        for (int i = 0; i < this.numVertices; i++) {
+            resultList.addToRear(this.vertices[i]);
+        }
+
+        return resultList.iterator();
+    }
+
+    public boolean isConnected() {
+        if (this.isEmpty()) return false;
+
+        int[] queue = new int[this.numVertices];
+        boolean[] visited = new boolean[this.numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = 0;
+        visited[0] = true;
+
+        while (head < tail) {
+            int currentVertex = queue[head++];
+
+            for (int edge = this.offsets[currentVertex]; edge < this.offsets[currentVertex + 1]; edge++) {
+                int neighbor = this.neighbors[edge];
+
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return tail == this.numVertices;
+    }
+
+    public int getDegree(T vertex) {
+        int pos = this.getIndex(vertex);
+        if (this.indexInvalid(pos)) throw new IllegalArgumentException();
+
+        return this.offsets[pos + 1] - this.offsets[pos];
+    }
+
+    public boolean isEmpty() {
+        return this.numVertices == 0;
+    }
+
+    public int size() {
+        return this.numVertices;
+    }
+
+    public String toString() {
+        if (this.numVertices == 0) return "Graph is empty";
+
+        StringBuilder result = new StringBuilder();
+
+        result.append("Adjacency Lists\n");
+        result.append("---------------\n");
+        result.append("index\tneighbors\n\n");
+
+        for (int i = 0; i < this.numVertices; i++) {
+            result.append(i).append("\t");
+
+            for (int edge = this.offsets[i]; edge < this.offsets[i + 1]; edge++) {
+                result.append(this.neighbors[edge]).append(" ");
+            }
+            result.append("\n");
+        }
+
+        result.append("\n\nVertex Values");
+        result.append("\n-------------\n");
+        result.append("index\tvalue\n\n");
+
+        for (int i = 0; i < this.numVertices; i++) {
+            result.append(i).append("\t");
+            result.append(this.vertices[i].toString()).append("\n");
+        }
+        result.append("\n");
+
+        return result.toString();
+    }
+}
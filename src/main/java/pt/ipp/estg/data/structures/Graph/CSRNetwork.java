@@ -0,0 +1,131 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.Map.HashMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class CSRNetwork<T> extends CSRGraph<T> implements NetworkADT<T> {
+    protected final double[] weights;
+
+    protected CSRNetwork(T[] vertices, HashMap<T, Integer> indices, CompressedRows rows) {
+        super(vertices, indices, rows);
+        this.weights = rows.weights;
+    }
+
+    public static <T> CSRNetwork<T> fromNetwork(Network<T> network) {
+        T[] vertices = copyVertices(network);
+
+        return new CSRNetwork<>(vertices, indexVertices(vertices), CompressedRows.fromNetwork(network));
+    }
+
+    public static <T> CSRNetwork<T> fromEdges(T[] vertices, int[] sources, int[] targets, double[] weights) {
+        T[] copy = Arrays.copyOf(vertices, vertices.length);
+
+        return new CSRNetwork<>(copy, indexVertices(copy), CompressedRows.fromEdges(copy.length, sources, targets, weights));
+    }
+
+    public static <T> CSRNetwork<T> fromEdges(T[] vertices, T[] sources, T[] targets, double[] weights) {
+        T[] copy = Arrays.copyOf(vertices, vertices.length);
+        HashMap<T, Integer> indices = indexVertices(copy);
+        CompressedRows rows = CompressedRows.fromEdges(copy.length, resolve(indices, sources), resolve(indices, targets), weights);
+
+        return new CSRNetwork<>(copy, indices, rows);
+    }
+
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        throw new UnsupportedOperationException();
+    }
+
+    public double getWeight(T vertex1, T vertex2) {
+        int index1 = this.getIndex(vertex1);
+        int index2 = this.getIndex(vertex2);
+        if (this.indexInvalid(index1) || this.indexInvalid(index2)) throw new IllegalArgumentException();
+
+        for (int edge = this.offsets[index1]; edge < this.offsets[index1 + 1]; edge++) {
+            if (this.neighbors[edge] == index2) return this.weights[edge];
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return new UnorderedArrayList<T>().iterator();
+
+        return PathSearch.aStar(new Adjacency(), this.vertices, startIndex, targetIndex, null).iterator();
+    }
+
+    public double shortestPathWeight(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex)) return -1;
+
+        return PathSearch.aStar(new Adjacency(), this.vertices, startIndex, targetIndex, null).getWeight();
+    }
+
+    public PathResult<T> shortestPath(T startVertex, T targetVertex, ShortestPathMode mode) {
+        int startIndex = this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+
+        return PathSearch.search(new Adjacency(), this.vertices, startIndex, targetIndex, mode);
+    }
+
+    public PathResult<T> shortestPath(T startVertex, T targetVertex, Heuristic<T> heuristic) {
+        int startIndex = this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+        if (heuristic == null) throw new NullPointerException();
+
+        return PathSearch.aStar(new Adjacency(), this.vertices, startIndex, targetIndex, heuristic);
+    }
+
+    WeightedAdjacency adjacency() {
+        return new Adjacency();
+    }
+
+    public String toString() {
+        if (this.numVertices == 0) return "Graph is empty";
+
+        StringBuilder result = new StringBuilder(super.toString());
+
+        result.append("\nWeights of Edges");
+        result.append("\n----------------\n");
+        result.append("index\tweight\n\n");
+
+        for (int i = 0; i < this.numVertices; i++) {
+            for (int edge = this.offsets[i]; edge < this.offsets[i + 1]; edge++) {
+                if (this.neighbors[edge] >= i) {
+                    result.append(i).append(" to ").append(this.neighbors[edge]).append("\t");
+                    result.append(this.weights[edge]).append("\n");
+                }
+            }
+        }
+
+        result.append("\n");
+
+        return result.toString();
+    }
+
+    private class Adjacency implements WeightedAdjacency {
+        public int vertexCount() {
+            return CSRNetwork.this.numVertices;
+        }
+
+        public int slotCount(int vertex) {
+            return CSRNetwork.this.offsets[vertex + 1] - CSRNetwork.this.offsets[vertex];
+        }
+
+        public int neighbor(int vertex, int slot) {
+            return CSRNetwork.this.neighbors[CSRNetwork.this.offsets[vertex] + slot];
+        }
+
+        public double weight(int vertex, int slot) {
+            return CSRNetwork.this.weights[CSRNetwork.this.offsets[vertex] + slot];
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import java.util.Arrays;
+
+final class CompressedRows {
+    final int[] offsets;
+    final int[] neighbors;
+    final double[] weights;
+
+    private CompressedRows(int[] offsets, int[] neighbors, double[] weights) {
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.weights = weights;
+    }
+
+    static CompressedRows fromGraph(Graph<?> graph) {
+        return fromMatrix(graph, null);
+    }
+
+    static CompressedRows fromNetwork(Network<?> network) {
+        return fromMatrix(network, network);
+    }
+
+    private static CompressedRows fromMatrix(Graph<?> graph, Network<?> network) {
+        int numVertices = graph.numVertices;
+        int[] offsets = new int[numVertices + 1];
+
+        for (int i = 0; i < numVertices; i++) {
+            offsets[i + 1] = offsets[i];
+
+            for (int j = 0; j < numVertices; j++) {
+                if (graph.isAdjacent(i, j)) offsets[i + 1]++;
+            }
+        }
+
+        int[] neighbors = new int[offsets[numVertices]];
+        double[] weights = network == null ? null : new double[offsets[numVertices]];
+        int edge = 0;
+
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                if (!graph.isAdjacent(i, j)) continue;
+
+                neighbors[edge] = j;
+
+                if (network != null) {
+                    weights[edge] = network.getWeight(i, j);
+                    if (!(weights[edge] >= 0)) throw new IllegalArgumentException("Illegal weight: " + weights[edge]);
+                }
+
+                edge++;
+            }
+        }
+
+        return new CompressedRows(offsets, neighbors, weights);
+    }
+
+    static CompressedRows fromEdges(int numVertices, int[] sources, int[] targets, double[] weights) {
+        if (sources.length != targets.length || (weights != null && weights.length != sources.length)) {
+            throw new IllegalArgumentException("Edge arrays differ in length");
+        }
+
+        int[] offsets = new int[numVertices + 1];
+
+        for (int i = 0; i < sources.length; i++) {
+            int source = sources[i];
+            int target = targets[i];
+
+            if (source < 0 || source >= numVertices || target < 0 || target >= numVertices) {
+                throw new IllegalArgumentException("Illegal edge: " + source + " - " + target);
+            }
+            if (weights != null && !(weights[i] >= 0)) throw new IllegalArgumentException("Illegal weight: " + weights[i]);
+
+            offsets[source + 1]++;
+            if (source != target) offsets[target + 1]++;
+        }
+
+        for (int i = 0; i < numVertices; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, numVertices);
+        int[] neighbors = new int[offsets[numVertices]];
+        double[] rowWeights = weights == null ? null : new double[offsets[numVertices]];
+
+        for (int i = 0; i < sources.length; i++) {
+            int source = sources[i];
+            int target = targets[i];
+
+            neighbors[cursor[source]] = target;
+            if (weights != null) rowWeights[cursor[source]] = weights[i];
+            cursor[source]++;
+
+            if (source != target) {
+                neighbors[cursor[target]] = source;
+                if (weights != null) rowWeights[cursor[target]] = weights[i];
+                cursor[target]++;
+            }
+        }
+
+        int[] seen = cursor;
+        Arrays.fill(seen, -1);
+        int write = 0;
+
+        for (int vertex = 0; vertex < numVertices; vertex++) {
+            int start = offsets[vertex];
+            int end = offsets[vertex + 1];
+            offsets[vertex] = write;
+
+            for (int edge = start; edge < end; edge++) {
+                int neighbor = neighbors[edge];
+                if (seen[neighbor] == vertex) continue;
+
+                seen[neighbor] = vertex;
+                neighbors[write] = neighbor;
+                if (rowWeights != null) rowWeights[write] = rowWeights[edge];
+                write++;
+            }
+        }
+
+        offsets[numVertices] = write;
+
+        if (write < neighbors.length) {
+            neighbors = Arrays.copyOf(neighbors, write);
+            if (rowWeights != null) rowWeights = Arrays.copyOf(rowWeights, write);
+        }
+
+        return new CompressedRows(offsets, neighbors, rowWeights);
+    }
+}
@@ -0,0 +1,645 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+import pt.ipp.estg.data.structures.Map.HashMap;
+import pt.ipp.estg.data.structures.Map.Serializer;
+import pt.ipp.estg.data.structures.Tree.IndexedMinHeap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+public class ContractionHierarchy<T> {
+    static final int MAGIC = 0x43484E57;
+    static final int VERSION = 1;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int SIMULATION_SETTLE_LIMIT = 50;
+    private final T[] vertices;
+    private final HashMap<T, Integer> indices;
+    private final int[] ranks;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final int[] middles;
+    private final int numVertices;
+    private final ThreadLocal<Query> queries;
+
+    private ContractionHierarchy(T[] vertices, int[] ranks, int[] offsets, int[] targets, double[] weights, int[] middles) {
+        this.vertices = vertices;
+        this.indices = CSRGraph.indexVertices(vertices);
+        this.ranks = ranks;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.middles = middles;
+        this.numVertices = vertices.length;
+        this.queries = ThreadLocal.withInitial(() -> new Query());
+    }
+
+    public static <T> ContractionHierarchy<T> fromNetwork(Network<T> network) {
+        return contract(network.adjacency(), Arrays.copyOf(network.vertices, network.numVertices));
+    }
+
+    public static <T> ContractionHierarchy<T> fromNetwork(CSRNetwork<T> network) {
+        return contract(network.adjacency(), Arrays.copyOf(network.vertices, network.numVertices));
+    }
+
+    public static <T> ContractionHierarchy<T> fromNetwork(AdjacencyListNetwork<T> network) {
+        return contract(network.adjacency(), Arrays.copyOf(network.vertices, network.numVertices));
+    }
+
+    private static <T> ContractionHierarchy<T> contract(WeightedAdjacency graph, T[] vertices) {
+        Contractor contractor = new Contractor(graph);
+        contractor.run();
+
+        return new ContractionHierarchy<>(vertices, contractor.ranks, contractor.offsets, contractor.targets, contractor.weights, contractor.middles);
+    }
+
+    public int size() {
+        return numVertices;
+    }
+
+    public int getEdgeCount() {
+        return this.targets.length;
+    }
+
+    public int getShortcutCount() {
+        int shortcuts = 0;
+
+        for (int middle : this.middles) {
+            if (middle >= 0) shortcuts++;
+        }
+
+        return shortcuts;
+    }
+
+    public int getRank(T vertex) {
+        int index = this.getIndex(vertex);
+        if (this.indexInvalid(index)) throw new IllegalArgumentException();
+
+        return this.ranks[index];
+    }
+
+    private int getIndex(T vertex) {
+        if (vertex == null) return -1;
+
+        Integer index = this.indices.get(vertex);
+
+        return index == null ? -1 : index;
+    }
+
+    private boolean indexInvalid(int index) {
+        return !((index < this.numVertices) && (index >= 0));
+    }
+
+    public double shortestPathWeight(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex)) return -1;
+
+        return this.queries.get().search(startIndex, targetIndex, false).getWeight();
+    }
+
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
+            return new UnorderedArrayList<T>().iterator();
+
+        return this.queries.get().search(startIndex, targetIndex, true).iterator();
+    }
+
+    public PathResult<T> shortestPath(T startVertex, T targetVertex) {
+        int startIndex = this.getIndex(startVertex);
+        int targetIndex = this.getIndex(targetVertex);
+        if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+
+        return this.queries.get().search(startIndex, targetIndex, true);
+    }
+
+    private int edgeBetween(int vertex1, int vertex2) {
+        int lower = this.ranks[vertex1] < this.ranks[vertex2] ? vertex1 : vertex2;
+        int upper = lower == vertex1 ? vertex2 : vertex1;
+
+        for (int edge = this.offsets[lower]; edge < this.offsets[lower + 1]; edge++) {
+            if (this.targets[edge] == upper) return edge;
+        }
+
+        throw new IllegalStateException("Missing edge: " + vertex1 + " to " + vertex2);
+    }
+
+    public void write(OutputStream out, Serializer<T> serializer) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(out, 1 << 16), new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(this.numVertices);
+        data.writeInt(this.targets.length);
+
+        for (int i = 0; i < this.numVertices; i++) {
+            serializer.write(this.vertices[i], data);
+            data.writeInt(this.ranks[i]);
+            data.writeInt(this.offsets[i + 1]);
+        }
+
+        for (int edge = 0; edge < this.targets.length; edge++) {
+            data.writeInt(this.targets[edge]);
+            data.writeDouble(this.weights[edge]);
+            data.writeInt(this.middles[edge]);
+        }
+
+        data.writeLong(checked.getChecksum().getValue());
+        data.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ContractionHierarchy<T> read(InputStream in, Serializer<T> serializer) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(in, 1 << 16), new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+
+        if (data.readInt() != MAGIC) throw new IOException("Not a contraction hierarchy");
+
+        int version = data.readInt();
+        if (version != VERSION) throw new IOException("Unsupported hierarchy version: " + version);
+
+        int numVertices = data.readInt();
+        int numEdges = data.readInt();
+        if (numVertices < 0) throw new IOException("Corrupt vertex count: " + numVertices);
+        if (numEdges < 0) throw new IOException("Corrupt edge count: " + numEdges);
+
+        T[] vertices = (T[]) (new Object[numVertices]);
+        int[] ranks = new int[numVertices];
+        int[] offsets = new int[numVertices + 1];
+
+        for (int i = 0; i < numVertices; i++) {
+            vertices[i] = serializer.read(data);
+            ranks[i] = data.readInt();
+            offsets[i + 1] = data.readInt();
+
+            if (ranks[i] < 0 || ranks[i] >= numVertices) throw new IOException("Corrupt rank: " + ranks[i]);
+            if (offsets[i + 1] < offsets[i] || offsets[i + 1] > numEdges) throw new IOException("Corrupt offset: " + offsets[i + 1]);
+        }
+
+        if (offsets[numVertices] != numEdges) throw new IOException("Corrupt offset: " + offsets[numVertices]);
+
+        int[] targets = new int[numEdges];
+        double[] weights = new double[numEdges];
+        int[] middles = new int[numEdges];
+
+        for (int edge = 0; edge < numEdges; edge++) {
+            targets[edge] = data.readInt();
+            weights[edge] = data.readDouble();
+            middles[edge] = data.readInt();
+
+            if (targets[edge] < 0 || targets[edge] >= numVertices) throw new IOException("Corrupt target: " + targets[edge]);
+            if (middles[edge] < -1 || middles[edge] >= numVertices) throw new IOException("Corrupt middle: " + middles[edge]);
+            if (!(weights[edge] >= 0)) throw new IOException("Corrupt weight: " + weights[edge]);
+        }
+
+        long expected = checked.getChecksum().getValue();
+        if (data.readLong() != expected) throw new IOException("Hierarchy checksum mismatch");
+
+        try {
+            return new ContractionHierarchy<>(vertices, ranks, offsets, targets, weights, middles);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt vertices", e);
+        }
+    }
+
+    private class Query {
+        private final double[] forward;
+        private final double[] backward;
+        private final int[] forwardPrevious;
+        private final int[] backwardPrevious;
+        private final IndexedMinHeap forwardHeap;
+        private final IndexedMinHeap backwardHeap;
+        private final int[] touched;
+        private int touchedCount;
+        private int[] stack;
+        private int[] path;
+        private int pathLength;
+        private final int[] pathPositions;
+
+        public Query() {
+            int numVertices = ContractionHierarchy.this.numVertices;
+
+            this.forward = new double[numVertices];
+            this.backward = new double[numVertices];
+            this.forwardPrevious = new int[numVertices];
+            this.backwardPrevious = new int[numVertices];
+            this.forwardHeap = new IndexedMinHeap(numVertices);
+            this.backwardHeap = new IndexedMinHeap(numVertices);
+            this.touched = new int[numVertices];
+            this.stack = new int[16];
+            this.path = new int[16];
+            this.pathPositions = new int[numVertices];
+
+            Arrays.fill(this.forward, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.backward, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.pathPositions, -1);
+        }
+
+        private void touch(int vertex) {
+            if (this.forward[vertex] == Double.POSITIVE_INFINITY && this.backward[vertex] == Double.POSITIVE_INFINITY) {
+                this.touched[this.touchedCount++] = vertex;
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < this.touchedCount; i++) {
+                this.forward[this.touched[i]] = Double.POSITIVE_INFINITY;
+                this.backward[this.touched[i]] = Double.POSITIVE_INFINITY;
+            }
+
+            this.touchedCount = 0;
+            this.forwardHeap.clear();
+            this.backwardHeap.clear();
+        }
+
+        public PathResult<T> search(int startIndex, int targetIndex, boolean unpack) {
+            int[] offsets = ContractionHierarchy.this.offsets;
+            int[] targets = ContractionHierarchy.this.targets;
+            double[] weights = ContractionHierarchy.this.weights;
+            double best = Double.POSITIVE_INFINITY;
+            int meeting = -1;
+            int settled = 0;
+
+            this.touch(startIndex);
+            this.forward[startIndex] = 0;
+            this.forwardPrevious[startIndex] = -1;
+            this.forwardHeap.add(startIndex, 0);
+            this.touch(targetIndex);
+            this.backward[targetIndex] = 0;
+            this.backwardPrevious[targetIndex] = -1;
+            this.backwardHeap.add(targetIndex, 0);
+
+            if (startIndex == targetIndex) {
+                best = 0;
+                meeting = startIndex;
+            }
+
+            while (true) {
+                if (!this.forwardHeap.isEmpty() && this.forwardHeap.findMinKey() >= best) this.forwardHeap.clear();
+                if (!this.backwardHeap.isEmpty() && this.backwardHeap.findMinKey() >= best) this.backwardHeap.clear();
+                if (this.forwardHeap.isEmpty() && this.backwardHeap.isEmpty()) break;
+
+                boolean forwardStep = this.backwardHeap.isEmpty()
+                        || (!this.forwardHeap.isEmpty() && this.forwardHeap.findMinKey() <= this.backwardHeap.findMinKey());
+                IndexedMinHeap heap = forwardStep ? this.forwardHeap : this.backwardHeap;
+                double[] distances = forwardStep ? this.forward : this.backward;
+                double[] opposite = forwardStep ? this.backward : this.forward;
+                int[] previous = forwardStep ? this.forwardPrevious : this.backwardPrevious;
+
+                int current = heap.removeMin();
+                settled++;
+
+                for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+                    int neighbor = targets[edge];
+                    double distance = distances[current] + weights[edge];
+
+                    if (distance < distances[neighbor]) {
+                        this.touch(neighbor);
+                        distances[neighbor] = distance;
+                        previous[neighbor] = current;
+                        heap.addOrDecreaseKey(neighbor, distance);
+
+                        if (distance + opposite[neighbor] < best) {
+                            best = distance + opposite[neighbor];
+                            meeting = neighbor;
+                        }
+                    }
+                }
+            }
+
+            UnorderedListADT<T> result = new UnorderedArrayList<>();
+            if (unpack && meeting >= 0) this.unpackPath(startIndex, meeting, result);
+
+            this.reset();
+
+            return new PathResult<>(result, best, settled);
+        }
+
+        private void unpackPath(int startIndex, int meeting, UnorderedListADT<T> result) {
+            int upward = 0;
+            for (int vertex = meeting; vertex != startIndex; vertex = this.forwardPrevious[vertex]) {
+                upward++;
+            }
+
+            int[] chain = new int[upward + 1];
+            int vertex = meeting;
+            for (int i = upward; i > 0; i--) {
+                chain[i] = vertex;
+                vertex = this.forwardPrevious[vertex];
+            }
+            chain[0] = startIndex;
+
+            this.pathLength = 0;
+            this.append(startIndex);
+
+            for (int i = 1; i < chain.length; i++) {
+                this.unpackEdge(chain[i - 1], chain[i]);
+            }
+
+            for (vertex = meeting; this.backwardPrevious[vertex] != -1; ) {
+                int next = this.backwardPrevious[vertex];
+                this.unpackEdge(vertex, next);
+                vertex = next;
+            }
+
+            for (int i = 0; i < this.pathLength; i++) {
+                result.addToRear(ContractionHierarchy.this.vertices[this.path[i]]);
+                this.pathPositions[this.path[i]] = -1;
+            }
+        }
+
+        private void unpackEdge(int from, int to) {
+            int size = 0;
+            this.stack = this.push(this.stack, size, from, to);
+            size += 2;
+
+            while (size > 0) {
+                size -= 2;
+                int vertex1 = this.stack[size];
+                int vertex2 = this.stack[size + 1];
+                int middle = ContractionHierarchy.this.middles[ContractionHierarchy.this.edgeBetween(vertex1, vertex2)];
+
+                if (middle < 0) {
+                    this.append(vertex2);
+                } else {
+                    this.stack = this.push(this.stack, size, middle, vertex2);
+                    this.stack = this.push(this.stack, size + 2, vertex1, middle);
+                    size += 4;
+                }
+            }
+        }
+
+        private int[] push(int[] stack, int size, int vertex1, int vertex2) {
+            if (size + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+
+            stack[size] = vertex1;
+            stack[size + 1] = vertex2;
+
+            return stack;
+        }
+
+        private void append(int vertex) {
+            int position = this.pathPositions[vertex];
+
+            if (position >= 0) {
+                for (int i = position + 1; i < this.pathLength; i++) {
+                    this.pathPositions[this.path[i]] = -1;
+                }
+
+                this.pathLength = position + 1;
+                return;
+            }
+
+            if (this.pathLength == this.path.length) this.path = Arrays.copyOf(this.path, this.path.length * 2);
+
+            this.pathPositions[vertex] = this.pathLength;
+            this.path[this.pathLength++] = vertex;
+        }
+    }
+
+    private static class Contractor {
+        private final int numVertices;
+        private final int[][] adjacency;
+        private final double[][] adjacencyWeights;
+        private final int[][] adjacencyMiddles;
+        private final int[] degrees;
+        private final int[] deletedNeighbors;
+        private final int[] levels;
+        private final double[] witness;
+        private final int[] touched;
+        private int touchedCount;
+        private final IndexedMinHeap witnessHeap;
+        private final int[][] upward;
+        private final double[][] upwardWeights;
+        private final int[][] upwardMiddles;
+        private int[] ranks;
+        private int[] offsets;
+        private int[] targets;
+        private double[] weights;
+        private int[] middles;
+
+        public Contractor(WeightedAdjacency graph) {
+            this.numVertices = graph.vertexCount();
+            this.adjacency = new int[this.numVertices][];
+            this.adjacencyWeights = new double[this.numVertices][];
+            this.adjacencyMiddles = new int[this.numVertices][];
+            this.degrees = new int[this.numVertices];
+            this.deletedNeighbors = new int[this.numVertices];
+            this.levels = new int[this.numVertices];
+            this.witness = new double[this.numVertices];
+            this.touched = new int[this.numVertices];
+            this.witnessHeap = new IndexedMinHeap(this.numVertices);
+            this.upward = new int[this.numVertices][];
+            this.upwardWeights = new double[this.numVertices][];
+            this.upwardMiddles = new int[this.numVertices][];
+
+            Arrays.fill(this.witness, Double.POSITIVE_INFINITY);
+
+            for (int i = 0; i < this.numVertices; i++) {
+                this.adjacency[i] = new int[4];
+                this.adjacencyWeights[i] = new double[4];
+                this.adjacencyMiddles[i] = new int[4];
+            }
+
+            for (int i = 0; i < this.numVertices; i++) {
+                for (int slot = 0; slot < graph.slotCount(i); slot++) {
+                    int neighbor = graph.neighbor(i, slot);
+                    if (neighbor > i) this.addEdge(i, neighbor, graph.weight(i, slot), -1);
+                }
+            }
+        }
+
+        private int find(int vertex, int neighbor) {
+            for (int i = 0; i < this.degrees[vertex]; i++) {
+                if (this.adjacency[vertex][i] == neighbor) return i;
+            }
+
+            return -1;
+        }
+
+        private void append(int vertex, int neighbor, double weight, int middle) {
+            int degree = this.degrees[vertex];
+
+            if (degree == this.adjacency[vertex].length) {
+                this.adjacency[vertex] = Arrays.copyOf(this.adjacency[vertex], degree * 2);
+                this.adjacencyWeights[vertex] = Arrays.copyOf(this.adjacencyWeights[vertex], degree * 2);
+                this.adjacencyMiddles[vertex] = Arrays.copyOf(this.adjacencyMiddles[vertex], degree * 2);
+            }
+
+            this.adjacency[vertex][degree] = neighbor;
+            this.adjacencyWeights[vertex][degree] = weight;
+            this.adjacencyMiddles[vertex][degree] = middle;
+            this.degrees[vertex]++;
+        }
+
+        private void addEdge(int vertex1, int vertex2, double weight, int middle) {
+            int position1 = this.find(vertex1, vertex2);
+
+            if (position1 == -1) {
+                this.append(vertex1, vertex2, weight, middle);
+                this.append(vertex2, vertex1, weight, middle);
+            } else if (weight < this.adjacencyWeights[vertex1][position1]) {
+                int position2 = this.find(vertex2, vertex1);
+
+                this.adjacencyWeights[vertex1][position1] = weight;
+                this.adjacencyMiddles[vertex1][position1] = middle;
+                this.adjacencyWeights[vertex2][position2] = weight;
+                this.adjacencyMiddles[vertex2][position2] = middle;
+            }
+        }
+
+        private void removeEntry(int vertex, int neighbor) {
+            int position = this.find(vertex, neighbor);
+            int last = --this.degrees[vertex];
+
+            this.adjacency[vertex][position] = this.adjacency[vertex][last];
+            this.adjacencyWeights[vertex][position] = this.adjacencyWeights[vertex][last];
+            this.adjacencyMiddles[vertex][position] = this.adjacencyMiddles[vertex][last];
+        }
+
+        private void witnessSearch(int source, int excluded, double limit, int settleLimit) {
+            for (int i = 0; i < this.touchedCount; i++) {
+                this.witness[this.touched[i]] = Double.POSITIVE_INFINITY;
+            }
+
+            this.touchedCount = 0;
+            this.witness[source] = 0;
+            this.touched[this.touchedCount++] = source;
+            this.witnessHeap.add(source, 0);
+            int settled = 0;
+
+            while (!this.witnessHeap.isEmpty() && this.witnessHeap.findMinKey() <= limit && settled < settleLimit) {
+                int current = this.witnessHeap.removeMin();
+                settled++;
+
+                for (int i = 0; i < this.degrees[current]; i++) {
+                    int neighbor = this.adjacency[current][i];
+                    if (neighbor == excluded) continue;
+
+                    double distance = this.witness[current] + this.adjacencyWeights[current][i];
+                    if (distance > limit) continue;
+
+                    if (distance < this.witness[neighbor]) {
+                        if (this.witness[neighbor] == Double.POSITIVE_INFINITY) this.touched[this.touchedCount++] = neighbor;
+
+                        this.witness[neighbor] = distance;
+                        this.witnessHeap.addOrDecreaseKey(neighbor, distance);
+                    }
+                }
+            }
+
+            this.witnessHeap.clear();
+        }
+
+        private int shortcuts(int vertex, boolean apply) {
+            int degree = this.degrees[vertex];
+            int[] neighbors = this.adjacency[vertex];
+            double[] neighborWeights = this.adjacencyWeights[vertex];
+            int shortcuts = 0;
+
+            for (int i = 0; i < degree - 1; i++) {
+                double limit = 0;
+
+                for (int j = i + 1; j < degree; j++) {
+                    limit = Math.max(limit, neighborWeights[i] + neighborWeights[j]);
+                }
+
+                this.witnessSearch(neighbors[i], vertex, limit, apply ? WITNESS_SETTLE_LIMIT : SIMULATION_SETTLE_LIMIT);
+
+                for (int j = i + 1; j < degree; j++) {
+                    double via = neighborWeights[i] + neighborWeights[j];
+                    if (this.witness[neighbors[j]] <= via) continue;
+
+                    shortcuts++;
+                    if (apply) this.addEdge(neighbors[i], neighbors[j], via, vertex);
+                }
+            }
+
+            return shortcuts;
+        }
+
+        private double priority(int vertex) {
+            return 2 * (this.shortcuts(vertex, false) - this.degrees[vertex]) + this.deletedNeighbors[vertex] + this.levels[vertex];
+        }
+
+        private void contractVertex(int vertex, IndexedMinHeap queue) {
+            this.shortcuts(vertex, true);
+
+            int degree = this.degrees[vertex];
+            this.upward[vertex] = Arrays.copyOf(this.adjacency[vertex], degree);
+            this.upwardWeights[vertex] = Arrays.copyOf(this.adjacencyWeights[vertex], degree);
+            this.upwardMiddles[vertex] = Arrays.copyOf(this.adjacencyMiddles[vertex], degree);
+
+            for (int i = 0; i < degree; i++) {
+                int neighbor = this.adjacency[vertex][i];
+
+                this.removeEntry(neighbor, vertex);
+                this.deletedNeighbors[neighbor]++;
+                this.levels[neighbor] = Math.max(this.levels[neighbor], this.levels[vertex] + 1);
+            }
+
+            this.adjacency[vertex] = null;
+            this.adjacencyWeights[vertex] = null;
+            this.adjacencyMiddles[vertex] = null;
+            this.degrees[vertex] = 0;
+
+            for (int i = 0; i < degree; i++) {
+                int neighbor = this.upward[vertex][i];
+                if (queue.contains(neighbor)) queue.updateKey(neighbor, this.priority(neighbor));
+            }
+        }
+
+        public void run() {
+            IndexedMinHeap queue = new IndexedMinHeap(this.numVertices);
+            this.ranks = new int[this.numVertices];
+            int rank = 0;
+
+            for (int i = 0; i < this.numVertices; i++) {
+                queue.add(i, this.priority(i));
+            }
+
+            while (!queue.isEmpty()) {
+                int vertex = queue.removeMin();
+                double priority = this.priority(vertex);
+
+                if (!queue.isEmpty() && priority > queue.findMinKey()) {
+                    queue.add(vertex, priority);
+                    continue;
+                }
+
+                this.contractVertex(vertex, queue);
+                this.ranks[vertex] = rank++;
+            }
+
+            this.offsets = new int[this.numVertices + 1];
+            for (int i = 0; i < this.numVertices; i++) {
+                this.offsets[i + 1] = this.offsets[i] + this.upward[i].length;
+            }
+
+            this.targets = new int[this.offsets[this.numVertices]];
+            this.weights = new double[this.targets.length];
+            this.middles = new int[this.targets.length];
+
+            for (int i = 0; i < this.numVertices; i++) {
+                System.arraycopy(this.upward[i], 0, this.targets, this.offsets[i], this.upward[i].length);
+                System.arraycopy(this.upwardWeights[i], 0, this.weights, this.offsets[i], this.upward[i].length);
+                System.arraycopy(this.upwardMiddles[i], 0, this.middles, this.offsets[i], this.upward[i].length);
+            }
+        }
+    }
+}
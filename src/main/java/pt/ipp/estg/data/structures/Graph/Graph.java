@@ -3,31 +3,49 @@ package pt.ipp.estg.data.structures.Graph;
 import pt.ipp.estg.data.structures.Exceptions.EmptyCollectionException;
 import pt.ipp.estg.data.structures.List.UnorderedArrayList;
 import pt.ipp.estg.data.structures.List.UnorderedListADT;
-import pt.ipp.estg.data.structures.Queue.LinkedQueue;
-import pt.ipp.estg.data.structures.Queue.QueueADT;
-import pt.ipp.estg.data.structures.Stack.LinkedStack;
-import pt.ipp.estg.data.structures.Stack.StackADT;
+import pt.ipp.estg.data.structures.Map.HashMap;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 public class Graph<T> implements GraphADT<T> {
+    private static final int BOTTOM_UP_FACTOR = 16;
     protected final int DEFAULT_CAPACITY = 16;
     protected int numVertices;
-    protected boolean[][] adjMatrix;
+    protected long[][] adjMatrix;
     protected T[] vertices;
+    protected HashMap<T, Integer> indices;
 
     public Graph() {
         this.numVertices = 0;
-        this.adjMatrix = new boolean[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this.adjMatrix = new long[DEFAULT_CAPACITY][wordsFor(DEFAULT_CAPACITY)];
         this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
+        this.indices = new HashMap<>();
+    }
+
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void removeBit(long[] row, int pos, int words) {
+        int word = pos >>> 6;
+        long low = row[word] & ((1L << pos) - 1);
+
+        row[word] = low | ((row[word] >>> 1) & (-1L << pos));
+
+        for (int i = word + 1; i < words; i++) {
+            row[i - 1] |= row[i] << 63;
+            row[i] >>>= 1;
+        }
     }
 
     private void expandCapacity() {
-        T[] largerVertices = (T[]) (new Object[this.vertices.length * 2]);
-        boolean[][] largerAdjMatrix = new boolean[this.vertices.length * 2][this.vertices.length * 2];
+        int capacity = this.vertices.length * 2;
+        T[] largerVertices = (T[]) (new Object[capacity]);
+        long[][] largerAdjMatrix = new long[capacity][wordsFor(capacity)];
 
         for (int i = 0; i < this.numVertices; i++) {
-            System.arraycopy(this.adjMatrix[i], 0, largerAdjMatrix[i], 0, this.numVertices);
+            System.arraycopy(this.adjMatrix[i], 0, largerAdjMatrix[i], 0, this.adjMatrix[i].length);
             largerVertices[i] = this.vertices[i];
         }
 
@@ -36,27 +54,49 @@ public class Graph<T> implements GraphADT<T> {
     }
 
     protected int getIndex(T vertex) {
-        for (int i = 0; i < this.numVertices; i++) {
-            if (this.vertices[i].equals(vertex)) {
-                return i;
-            }
-        }
+        if (vertex == null) return -1;
+
+        Integer index = this.indices.get(vertex);
 
-        return -1;
+        return index == null ? -1 : index;
+    }
+
+    protected void checkNewVertex(T vertex) {
+        if (vertex == null) throw new NullPointerException();
+        if (this.indices.containsKey(vertex)) throw new IllegalArgumentException("Duplicate vertex: " + vertex);
+    }
+
+    protected void unindexVertex(int pos) {
+        this.indices.remove(this.vertices[pos]);
+
+        for (int i = pos + 1; i < this.numVertices; i++) {
+            this.indices.put(this.vertices[i], i - 1);
+        }
     }
 
     protected boolean indexInvalid(int index) {
         return index < 0 || index >= this.numVertices;
     }
 
+    protected boolean isAdjacent(int index1, int index2) {
+        return this.hasEdge(index1, index2);
+    }
+
+    private boolean hasEdge(int index1, int index2) {
+        return (this.adjMatrix[index1][index2 >>> 6] & (1L << index2)) != 0;
+    }
+
     public void addVertex(T vertex) {
+        this.checkNewVertex(vertex);
         if (this.numVertices == this.vertices.length) this.expandCapacity();
 
         this.vertices[this.numVertices] = vertex;
+        this.indices.put(vertex, this.numVertices);
+
+        Arrays.fill(this.adjMatrix[this.numVertices], 0);
 
         for (int i = 0; i < this.numVertices; i++) {
-            this.adjMatrix[this.numVertices][i] = false;
-            this.adjMatrix[i][this.numVertices] = false;
+            this.adjMatrix[i][this.numVertices >>> 6] &= ~(1L << this.numVertices);
         }
 
         this.numVertices++;
@@ -68,20 +108,24 @@ public class Graph<T> implements GraphADT<T> {
         int pos = this.getIndex(vertex);
         if (this.indexInvalid(pos)) throw new IllegalArgumentException();
 
-        for (int i = 0; i < this.numVertices; i++) {
-            if (this.adjMatrix[pos][i]) this.adjMatrix[pos][i] = false;
-            if (this.adjMatrix[i][pos]) this.adjMatrix[i][pos] = false;
-        }
+        this.unindexVertex(pos);
+
+        int words = wordsFor(this.numVertices);
+        long[] removedRow = this.adjMatrix[pos];
 
         for (int i = pos; i < this.numVertices - 1; i++) {
             this.vertices[i] = this.vertices[i + 1];
-            for (int j = 0; j < this.numVertices; j++) {
-                this.adjMatrix[i][j] = this.adjMatrix[i + 1][j];
-                this.adjMatrix[j][i] = this.adjMatrix[j][i + 1];
-            }
+            this.adjMatrix[i] = this.adjMatrix[i + 1];
         }
 
         this.numVertices--;
+        this.vertices[this.numVertices] = null;
+        this.adjMatrix[this.numVertices] = removedRow;
+        Arrays.fill(removedRow, 0);
+
+        for (int i = 0; i < this.numVertices; i++) {
+            removeBit(this.adjMatrix[i], pos, words);
+        }
     }
 
     public void addEdge(T vertex1, T vertex2) {
@@ -89,10 +133,8 @@ public class Graph<T> implements GraphADT<T> {
         int index2 = this.getIndex(vertex2);
         if (this.indexInvalid(index1) || this.indexInvalid(index2)) throw new IllegalArgumentException();
 
-        if (!this.adjMatrix[index1][index2] || !this.adjMatrix[index2][index1]) {
-            this.adjMatrix[index1][index2] = true;
-            this.adjMatrix[index2][index1] = true;
-        }
+        this.adjMatrix[index1][index2 >>> 6] |= 1L << index2;
+        this.adjMatrix[index2][index1 >>> 6] |= 1L << index1;
     }
 
     public void removeEdge(T vertex1, T vertex2) {
@@ -101,59 +143,129 @@ public class Graph<T> implements GraphADT<T> {
         int pos1 = this.getIndex(vertex1);
         int pos2 = this.getIndex(vertex2);
         if (this.indexInvalid(pos1) || this.indexInvalid(pos2)) throw new IllegalArgumentException();
-        if (!this.adjMatrix[pos1][pos2] || !this.adjMatrix[pos2][pos2]) throw new IllegalArgumentException();
+        if (!this.hasEdge(pos1, pos2) || !this.hasEdge(pos2, pos1)) throw new IllegalArgumentException();
 
-        this.adjMatrix[pos1][pos2] = false;
-        this.adjMatrix[pos2][pos1] = false;
+        this.adjMatrix[pos1][pos2 >>> 6] &= ~(1L << pos2);
+        this.adjMatrix[pos2][pos1 >>> 6] &= ~(1L << pos1);
+    }
+
+    private int breadthFirst(int startIndex, int[] order, int[] previous) {
+        int words = wordsFor(this.numVertices);
+        long[] visited = new long[words];
+        long[] frontier = new long[words];
+        int levelStart = 0;
+        int levelEnd = 1;
+        int tail = 1;
+        int unvisited = this.numVertices - 1;
+
+        order[0] = startIndex;
+        visited[startIndex >>> 6] |= 1L << startIndex;
+        if (previous != null) previous[startIndex] = -1;
+
+        while (levelStart < levelEnd) {
+            if ((levelEnd - levelStart) * BOTTOM_UP_FACTOR > unvisited) {
+                Arrays.fill(frontier, 0);
+                for (int i = levelStart; i < levelEnd; i++) {
+                    frontier[order[i] >>> 6] |= 1L << order[i];
+                }
+
+                for (int w = 0; w < words; w++) {
+                    long candidates = ~visited[w];
+
+                    while (candidates != 0) {
+                        int vertex = (w << 6) + Long.numberOfTrailingZeros(candidates);
+                        candidates &= candidates - 1;
+                        if (vertex >= this.numVertices) break;
+
+                        long[] row = this.adjMatrix[vertex];
+
+                        for (int k = 0; k < words; k++) {
+                            long parents = row[k] & frontier[k];
+
+                            if (parents != 0) {
+                                visited[w] |= 1L << vertex;
+                                order[tail++] = vertex;
+                                if (previous != null) previous[vertex] = (k << 6) + Long.numberOfTrailingZeros(parents);
+                                break;
+                            }
+                        }
+                    }
+                }
+            } else {
+                for (int i = levelStart; i < levelEnd; i++) {
+                    int currentVertex = order[i];
+                    long[] row = this.adjMatrix[currentVertex];
+
+                    for (int w = 0; w < words; w++) {
+                        long neighbors = row[w] & ~visited[w];
+                        visited[w] |= neighbors;
+
+                        while (neighbors != 0) {
+                            int neighbor = (w << 6) + Long.numberOfTrailingZeros(neighbors);
+                            neighbors &= neighbors - 1;
+
+                            order[tail++] = neighbor;
+                            if (previous != null) previous[neighbor] = currentVertex;
+                        }
+                    }
+                }
+            }
+
+            unvisited -= tail - levelEnd;
+            levelStart = levelEnd;
+            levelEnd = tail;
+        }
+
+        return tail;
     }
 
     public Iterator<T> iteratorBFS(T startVertex) {
-        QueueADT<Integer> queue = new LinkedQueue<>();
         UnorderedListADT<T> resultList = new UnorderedArrayList<>();
-        boolean[] visited = new boolean[this.numVertices];
 
         int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
         if (this.indexInvalid(startIndex)) return resultList.iterator();
 
-        queue.enqueue(startIndex);
-        visited[startIndex] = true;
-
-        while (!queue.isEmpty()) {
-            int currentVertex = queue.dequeue();
-            resultList.addToRear(this.vertices[currentVertex]);
+        int[] order = new int[this.numVertices];
+        int count = this.breadthFirst(startIndex, order, null);
 
-            for (int i = 0; i < this.numVertices; i++) {
-                if (this.adjMatrix[currentVertex][i] && !visited[i]) {
-                    visited[i] = true;
-                    queue.enqueue(i);
-                }
-            }
+        for (int i = 0; i < count; i++) {
+            resultList.addToRear(this.vertices[order[i]]);
         }
 
         return resultList.iterator();
     }
 
     public Iterator<T> iteratorDFS(T startVertex) {
-        StackADT<Integer> stack = new LinkedStack<>();
         UnorderedListADT<T> resultList = new UnorderedArrayList<>();
-        boolean[] visited = new boolean[this.numVertices];
 
         int startIndex = startVertex == null ? 0 : this.getIndex(startVertex);
         if (this.indexInvalid(startIndex)) return resultList.iterator();
 
-        stack.push(startIndex);
+        int words = wordsFor(this.numVertices);
+        long[] visited = new long[words];
+        int[] stack = new int[16];
+        int top = 0;
 
-        while (!stack.isEmpty()) {
-            int currentVertex = stack.pop();
+        stack[top++] = startIndex;
 
-            if (!visited[currentVertex]) {
-                visited[currentVertex] = true;
-                resultList.addToRear(this.vertices[currentVertex]);
-            }
+        while (top > 0) {
+            int currentVertex = stack[--top];
+            if ((visited[currentVertex >>> 6] & (1L << currentVertex)) != 0) continue;
+
+            visited[currentVertex >>> 6] |= 1L << currentVertex;
+            resultList.addToRear(this.vertices[currentVertex]);
+
+            long[] row = this.adjMatrix[currentVertex];
+
+            for (int w = words - 1; w >= 0; w--) {
+                long neighbors = row[w] & ~visited[w];
 
-            for (int i = this.numVertices - 1; i >= 0; i--) {
-                if (this.adjMatrix[currentVertex][i] && !visited[i]) {
-                    stack.push(i);
+                while (neighbors != 0) {
+                    int bit = 63 - Long.numberOfLeadingZeros(neighbors);
+                    neighbors &= ~(1L << bit);
+
+                    if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = (w << 6) + bit;
                 }
             }
         }
@@ -169,33 +281,28 @@ public class Graph<T> implements GraphADT<T> {
         if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
             return resultList.iterator();
 
-        int[] distances = new int[this.numVertices];
-        int[] predecessors = new int[this.numVertices];
-        boolean[] visited = new boolean[this.numVertices];
+        int[] previous = new int[this.numVertices];
+        Arrays.fill(previous, -1);
+        this.breadthFirst(startIndex, new int[this.numVertices], previous);
 
-        for (int i = 0; i < this.numVertices; i++) {
-            distances[i] = Integer.MAX_VALUE;
+        if (previous[targetIndex] == -1) return resultList.iterator();
+
+        int length = 0;
+        for (int vertex = targetIndex; vertex != -1; vertex = previous[vertex]) {
+            length++;
         }
-        distances[startIndex] = 0;
 
-        for (int i = 0; i < this.numVertices - 1; i++) {
-            int currentVertex = getMinDistanceVertex(distances, visited);
-            visited[currentVertex] = true;
+        int[] path = new int[length];
+        int vertex = targetIndex;
 
-            for (int j = 0; j < this.numVertices; j++) {
-                if (!visited[j] && this.adjMatrix[currentVertex][j] && distances[currentVertex] != Integer.MAX_VALUE && distances[currentVertex] + 1 < distances[j]) {
-                    distances[j] = distances[currentVertex] + 1;
-                    predecessors[j] = currentVertex;
-                }
-            }
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = vertex;
+            vertex = previous[vertex];
         }
 
-        int currentVertex = targetIndex;
-        while (currentVertex != startIndex) {
-            resultList.addToFront(this.vertices[currentVertex]);
-            currentVertex = predecessors[currentVertex];
+        for (int i = 0; i < length; i++) {
+            resultList.addToRear(this.vertices[path[i]]);
         }
-        resultList.addToFront(this.vertices[startIndex]);
 
         return resultList.iterator();
     }
@@ -206,40 +313,18 @@ public class Graph<T> implements GraphADT<T> {
         if (this.indexInvalid(startIndex) || this.indexInvalid(targetIndex) || (startIndex == targetIndex))
             return -1;
 
-        int[] distances = new int[this.numVertices];
-        boolean[] visited = new boolean[this.numVertices];
-
-        for (int i = 0; i < this.numVertices; i++) {
-            distances[i] = Integer.MAX_VALUE;
-        }
-        distances[startIndex] = 0;
-
-        for (int i = 0; i < this.numVertices - 1; i++) {
-            int currentVertex = getMinDistanceVertex(distances, visited);
-            visited[currentVertex] = true;
-
-            for (int j = 0; j < this.numVertices; j++) {
-                if (!visited[j] && this.adjMatrix[currentVertex][j] && distances[currentVertex] != Integer.MAX_VALUE && distances[currentVertex] + 1 < distances[j]) {
-                    distances[j] = distances[currentVertex] + 1;
-                }
-            }
-        }
-
-        return distances[targetIndex] == Integer.MAX_VALUE ? -1 : distances[targetIndex];
-    }
+        int[] previous = new int[this.numVertices];
+        Arrays.fill(previous, -1);
+        this.breadthFirst(startIndex, new int[this.numVertices], previous);
 
-    private int getMinDistanceVertex(int[] distances, boolean[] visited) {
-        int minDistance = Integer.MAX_VALUE;
-        int minDistanceVertex = -1;
+        if (previous[targetIndex] == -1) return -1;
 
-        for (int i = 0; i < this.numVertices; i++) {
-            if (!visited[i] && distances[i] < minDistance) {
-                minDistance = distances[i];
-                minDistanceVertex = i;
-            }
+        int length = 0;
+        for (int vertex = targetIndex; vertex != startIndex; vertex = previous[vertex]) {
+            length++;
         }
 
-        return minDistanceVertex;
+        return length;
     }
 
     public Iterator<T> getAdjacentVertices(T vertex) {
@@ -250,9 +335,14 @@ public class Graph<T> implements GraphADT<T> {
         int pos = this.getIndex(vertex);
         if (this.indexInvalid(pos)) return resultList.iterator();
 
-        for (int i = 0; i < this.numVertices; i++) {
-            if (this.adjMatrix[pos][i]) {
-                resultList.addToRear(this.vertices[i]);
+        long[] row = this.adjMatrix[pos];
+
+        for (int w = 0; w < wordsFor(this.numVertices); w++) {
+            long neighbors = row[w];
+
+            while (neighbors != 0) {
+                resultList.addToRear(this.vertices[(w << 6) + Long.numberOfTrailingZeros(neighbors)]);
+                neighbors &= neighbors - 1;
             }
         }
 
@@ -272,13 +362,7 @@ public class Graph<T> implements GraphADT<T> {
     public boolean isConnected() {
         if (this.isEmpty()) return false;
 
-        for (int i = 0; i < this.numVertices; i++) {
-            for (int j = 0; j < this.numVertices; j++) {
-                if (this.adjMatrix[i][j] != this.adjMatrix[j][i]) return false;
-            }
-        }
-
-        return true;
+        return this.breadthFirst(0, new int[this.numVertices], null) == this.numVertices;
     }
 
     public boolean isEmpty() {
@@ -309,7 +393,7 @@ public class Graph<T> implements GraphADT<T> {
             result.append(i).append("\t");
 
             for (int j = 0; j < this.numVertices; j++) {
-                if (this.adjMatrix[i][j])
+                if (this.hasEdge(i, j))
                     result.append("1 ");
                 else
                     result.append("0 ");
@@ -0,0 +1,5 @@
+package pt.ipp.estg.data.structures.Graph;
+
+public interface Heuristic<T> {
+    double estimate(T vertex, T target);
+}
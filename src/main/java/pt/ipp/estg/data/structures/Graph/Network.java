@@ -12,13 +12,25 @@ import java.util.Iterator;
 
 public class Network<T> extends Graph<T> implements NetworkADT<T> {
     private double[][] adjMatrix;
+    private ShortestPathMode shortestPathMode;
 
     public Network() {
         super();
         this.adjMatrix = new double[super.DEFAULT_CAPACITY][super.DEFAULT_CAPACITY];
+        this.shortestPathMode = ShortestPathMode.LINEAR_SCAN;
         this.initAdjMatrix(this.adjMatrix);
     }
 
+    public ShortestPathMode getShortestPathMode() {
+        return shortestPathMode;
+    }
+
+    public void setShortestPathMode(ShortestPathMode shortestPathMode) {
+        if (shortestPathMode == null) throw new NullPointerException();
+
+        this.shortestPathMode = shortestPathMode;
+    }
+
     private void initAdjMatrix(double[][] matrix) {
         for (int i = 0; i < matrix.length; i++) {
             for (int j = 0; j < matrix.length; j++) {
@@ -41,10 +53,20 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         this.adjMatrix = largerAdjMatrix;
     }
 
+    protected boolean isAdjacent(int index1, int index2) {
+        return this.adjMatrix[index1][index2] < Double.POSITIVE_INFINITY;
+    }
+
+    protected double getWeight(int index1, int index2) {
+        return this.adjMatrix[index1][index2];
+    }
+
     public void addVertex(T vertex) {
+        super.checkNewVertex(vertex);
         if (super.numVertices == super.vertices.length) this.expandCapacity();
 
         super.vertices[super.numVertices] = vertex;
+        super.indices.put(vertex, super.numVertices);
 
         for (int i = 0; i < super.numVertices; i++) {
             this.adjMatrix[super.numVertices][i] = Double.POSITIVE_INFINITY;
@@ -60,6 +82,8 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         int pos = super.getIndex(vertex);
         if (super.indexInvalid(pos)) throw new IllegalArgumentException();
 
+        super.unindexVertex(pos);
+
         for (int i = 0; i < super.numVertices; i++) {
             this.adjMatrix[i][pos] = Double.POSITIVE_INFINITY;
             this.adjMatrix[pos][i] = Double.POSITIVE_INFINITY;
@@ -162,6 +186,10 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex) || (startIndex == targetIndex))
             return resultList.iterator();
 
+        if (this.shortestPathMode != ShortestPathMode.LINEAR_SCAN) {
+            return PathSearch.search(new Adjacency(), super.vertices, startIndex, targetIndex, this.shortestPathMode).iterator();
+        }
+
         double[] distances = new double[super.numVertices];
         int[] previous = new int[super.numVertices];
         boolean[] visited = new boolean[super.numVertices];
@@ -206,6 +234,10 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         int targetIndex = this.getIndex(targetVertex);
         if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex) || (startIndex == targetIndex)) return -1;
 
+        if (this.shortestPathMode != ShortestPathMode.LINEAR_SCAN) {
+            return PathSearch.search(new Adjacency(), super.vertices, startIndex, targetIndex, this.shortestPathMode).getWeight();
+        }
+
         double[] distances = new double[super.numVertices];
         boolean[] visited = new boolean[super.numVertices];
 
@@ -232,6 +264,23 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         return distances[targetIndex];
     }
 
+    public PathResult<T> shortestPath(T startVertex, T targetVertex, ShortestPathMode mode) {
+        int startIndex = super.getIndex(startVertex);
+        int targetIndex = super.getIndex(targetVertex);
+        if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+
+        return PathSearch.search(new Adjacency(), super.vertices, startIndex, targetIndex, mode);
+    }
+
+    public PathResult<T> shortestPath(T startVertex, T targetVertex, Heuristic<T> heuristic) {
+        int startIndex = super.getIndex(startVertex);
+        int targetIndex = super.getIndex(targetVertex);
+        if (super.indexInvalid(startIndex) || super.indexInvalid(targetIndex)) throw new IllegalArgumentException();
+        if (heuristic == null) throw new NullPointerException();
+
+        return PathSearch.aStar(new Adjacency(), super.vertices, startIndex, targetIndex, heuristic);
+    }
+
     private int getClosestUnvisited(double[] distances, boolean[] visited) {
         double minDistance = Double.POSITIVE_INFINITY;
         int minIndex = -1;
@@ -261,6 +310,24 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         return resultList.iterator();
     }
 
+    public boolean isConnected() {
+        if (super.isEmpty()) return false;
+
+        int count = 0;
+        Iterator<T> iterator = this.iteratorBFS(null);
+
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        return count == super.numVertices;
+    }
+
+    WeightedAdjacency adjacency() {
+        return new Adjacency();
+    }
+
     public String toString() {
         if (super.numVertices == 0) return "Graph is empty";
 
@@ -315,4 +382,22 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
         return result.toString();
     }
+
+    private class Adjacency implements WeightedAdjacency {
+        public int vertexCount() {
+            return Network.this.numVertices;
+        }
+
+        public int slotCount(int vertex) {
+            return Network.this.numVertices;
+        }
+
+        public int neighbor(int vertex, int slot) {
+            return Network.this.adjMatrix[vertex][slot] < Double.POSITIVE_INFINITY ? slot : -1;
+        }
+
+        public double weight(int vertex, int slot) {
+            return Network.this.adjMatrix[vertex][slot];
+        }
+    }
 }
@@ -4,4 +4,8 @@ public interface NetworkADT<T> extends GraphADT<T> {
     void addEdge(T vertex1, T vertex2, double weight);
 
     double shortestPathWeight(T startVertex, T targetVertex);
+
+    PathResult<T> shortestPath(T startVertex, T targetVertex, ShortestPathMode mode);
+
+    PathResult<T> shortestPath(T startVertex, T targetVertex, Heuristic<T> heuristic);
 }
@@ -0,0 +1,298 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ParallelBFS<T> {
+    private static final int TOP_DOWN_THRESHOLD = 256;
+    private static final int BOTTOM_UP_THRESHOLD = 64;
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private final CSRGraph<T> graph;
+    private final ForkJoinPool pool;
+
+    public ParallelBFS(CSRGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public ParallelBFS(CSRGraph<T> graph, ForkJoinPool pool) {
+        if (graph == null || pool == null) throw new NullPointerException();
+
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    public Result<T> search(T startVertex) {
+        int startIndex = startVertex == null ? 0 : this.graph.getIndex(startVertex);
+        if (this.graph.indexInvalid(startIndex)) throw new IllegalArgumentException();
+
+        return new Search(startIndex).run();
+    }
+
+    public static class Result<T> {
+        private final CSRGraph<T> graph;
+        private final int[] distances;
+        private final int[] parents;
+        private final int reached;
+        private final int levels;
+
+        private Result(CSRGraph<T> graph, int[] distances, int[] parents, int reached, int levels) {
+            this.graph = graph;
+            this.distances = distances;
+            this.parents = parents;
+            this.reached = reached;
+            this.levels = levels;
+        }
+
+        public int[] getDistances() {
+            return distances;
+        }
+
+        public int[] getParents() {
+            return parents;
+        }
+
+        public int getReached() {
+            return reached;
+        }
+
+        public int getLevels() {
+            return levels;
+        }
+
+        public int getDistance(T vertex) {
+            int index = this.graph.getIndex(vertex);
+            if (this.graph.indexInvalid(index)) throw new IllegalArgumentException();
+
+            return this.distances[index];
+        }
+
+        public T getParent(T vertex) {
+            int index = this.graph.getIndex(vertex);
+            if (this.graph.indexInvalid(index)) throw new IllegalArgumentException();
+
+            return this.parents[index] < 0 ? null : this.graph.vertices[this.parents[index]];
+        }
+
+        public T getVertex(int index) {
+            if (this.graph.indexInvalid(index)) throw new IllegalArgumentException();
+
+            return this.graph.vertices[index];
+        }
+    }
+
+    private class Search {
+        private final int numVertices;
+        private final int words;
+        private final int[] offsets;
+        private final int[] neighbors;
+        private final int[] distances;
+        private final int[] parents;
+        private final AtomicLongArray visited;
+        private final long[] frontierBits;
+        private int[] frontier;
+        private int[] next;
+        private int frontierSize;
+        private int level;
+        private final AtomicInteger nextSize;
+        private final AtomicLong nextEdges;
+
+        public Search(int startIndex) {
+            this.numVertices = ParallelBFS.this.graph.numVertices;
+            this.words = (this.numVertices + 63) >>> 6;
+            this.offsets = ParallelBFS.this.graph.offsets;
+            this.neighbors = ParallelBFS.this.graph.neighbors;
+            this.distances = new int[this.numVertices];
+            this.parents = new int[this.numVertices];
+            this.visited = new AtomicLongArray(this.words);
+            this.frontierBits = new long[this.words];
+            this.frontier = new int[this.numVertices];
+            this.next = new int[this.numVertices];
+            this.nextSize = new AtomicInteger();
+            this.nextEdges = new AtomicLong();
+
+            Arrays.fill(this.distances, -1);
+            Arrays.fill(this.parents, -1);
+            this.distances[startIndex] = 0;
+            this.visited.set(startIndex >>> 6, 1L << startIndex);
+            this.frontier[0] = startIndex;
+            this.frontierSize = 1;
+            this.level = 0;
+        }
+
+        private int degree(int vertex) {
+            return this.offsets[vertex + 1] - this.offsets[vertex];
+        }
+
+        private boolean tryVisit(int vertex) {
+            int word = vertex >>> 6;
+            long bit = 1L << vertex;
+
+            while (true) {
+                long current = this.visited.get(word);
+                if ((current & bit) != 0) return false;
+                if (this.visited.compareAndSet(word, current, current | bit)) return true;
+            }
+        }
+
+        private void flush(int[] buffer, int count, long edges) {
+            if (count == 0) return;
+
+            int position = this.nextSize.getAndAdd(count);
+            System.arraycopy(buffer, 0, this.next, position, count);
+            this.nextEdges.addAndGet(edges);
+        }
+
+        public Result<T> run() {
+            long unexploredEdges = this.neighbors.length - this.degree(this.frontier[0]);
+            long frontierEdges = this.degree(this.frontier[0]);
+            int reached = 1;
+            boolean bottomUp = false;
+
+            while (this.frontierSize > 0) {
+                if (!bottomUp && frontierEdges * ALPHA > unexploredEdges) {
+                    bottomUp = true;
+                } else if (bottomUp && (long) this.frontierSize * BETA < this.numVertices) {
+                    bottomUp = false;
+                }
+
+                this.nextSize.set(0);
+                this.nextEdges.set(0);
+
+                if (bottomUp) {
+                    Arrays.fill(this.frontierBits, 0);
+                    for (int i = 0; i < this.frontierSize; i++) {
+                        this.frontierBits[this.frontier[i] >>> 6] |= 1L << this.frontier[i];
+                    }
+
+                    ParallelBFS.this.pool.invoke(new BottomUpTask(0, this.words));
+                } else {
+                    ParallelBFS.this.pool.invoke(new TopDownTask(0, this.frontierSize));
+                }
+
+                int[] swap = this.frontier;
+                this.frontier = this.next;
+                this.next = swap;
+                this.frontierSize = this.nextSize.get();
+                frontierEdges = this.nextEdges.get();
+                unexploredEdges -= frontierEdges;
+                reached += this.frontierSize;
+                this.level++;
+            }
+
+            return new Result<>(ParallelBFS.this.graph, this.distances, this.parents, reached, this.level);
+        }
+
+        private class TopDownTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+            private final int from;
+            private final int to;
+
+            public TopDownTask(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            protected void compute() {
+                if (this.to - this.from > TOP_DOWN_THRESHOLD) {
+                    int middle = (this.from + this.to) >>> 1;
+                    invokeAll(new TopDownTask(this.from, middle), new TopDownTask(middle, this.to));
+                    return;
+                }
+
+                int[] buffer = new int[64];
+                int count = 0;
+                long edges = 0;
+                int nextLevel = Search.this.level + 1;
+
+                for (int i = this.from; i < this.to; i++) {
+                    int vertex = Search.this.frontier[i];
+
+                    for (int edge = Search.this.offsets[vertex]; edge < Search.this.offsets[vertex + 1]; edge++) {
+                        int neighbor = Search.this.neighbors[edge];
+
+                        if ((Search.this.visited.get(neighbor >>> 6) & (1L << neighbor)) == 0 && Search.this.tryVisit(neighbor)) {
+                            Search.this.distances[neighbor] = nextLevel;
+                            Search.this.parents[neighbor] = vertex;
+
+                            if (count == buffer.length) {
+                                Search.this.flush(buffer, count, edges);
+                                count = 0;
+                                edges = 0;
+                            }
+
+                            buffer[count++] = neighbor;
+                            edges += Search.this.degree(neighbor);
+                        }
+                    }
+                }
+
+                Search.this.flush(buffer, count, edges);
+            }
+        }
+
+        private class BottomUpTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+            private final int from;
+            private final int to;
+
+            public BottomUpTask(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            protected void compute() {
+                if (this.to - this.from > BOTTOM_UP_THRESHOLD) {
+                    int middle = (this.from + this.to) >>> 1;
+                    invokeAll(new BottomUpTask(this.from, middle), new BottomUpTask(middle, this.to));
+                    return;
+                }
+
+                int[] buffer = new int[64];
+                int count = 0;
+                long edges = 0;
+                int nextLevel = Search.this.level + 1;
+
+                for (int word = this.from; word < this.to; word++) {
+                    long seen = Search.this.visited.get(word);
+                    long candidates = ~seen;
+                    long found = 0;
+
+                    while (candidates != 0) {
+                        int vertex = (word << 6) + Long.numberOfTrailingZeros(candidates);
+                        candidates &= candidates - 1;
+                        if (vertex >= Search.this.numVertices) break;
+
+                        for (int edge = Search.this.offsets[vertex]; edge < Search.this.offsets[vertex + 1]; edge++) {
+                            int neighbor = Search.this.neighbors[edge];
+
+                            if ((Search.this.frontierBits[neighbor >>> 6] & (1L << neighbor)) != 0) {
+                                found |= 1L << vertex;
+                                Search.this.distances[vertex] = nextLevel;
+                                Search.this.parents[vertex] = neighbor;
+
+                                if (count == buffer.length) {
+                                    Search.this.flush(buffer, count, edges);
+                                    count = 0;
+                                    edges = 0;
+                                }
+
+                                buffer[count++] = vertex;
+                                edges += Search.this.degree(vertex);
+                                break;
+                            }
+                        }
+                    }
+
+                    if (found != 0) Search.this.visited.set(word, seen | found);
+                }
+
+                Search.this.flush(buffer, count, edges);
+            }
+        }
+    }
+}
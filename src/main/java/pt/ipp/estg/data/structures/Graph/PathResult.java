@@ -0,0 +1,37 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.util.Iterator;
+
+public class PathResult<T> implements Iterable<T> {
+    private final UnorderedListADT<T> path;
+    private final double weight;
+    private final int settledVertices;
+
+    PathResult(UnorderedListADT<T> path, double weight, int settledVertices) {
+        this.path = path;
+        this.weight = weight;
+        this.settledVertices = settledVertices;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public int getSettledVertices() {
+        return settledVertices;
+    }
+
+    public int getLength() {
+        return this.path.size() - 1;
+    }
+
+    public boolean isReachable() {
+        return this.path.size() > 0;
+    }
+
+    public Iterator<T> iterator() {
+        return this.path.iterator();
+    }
+}
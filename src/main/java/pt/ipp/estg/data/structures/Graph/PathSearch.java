@@ -0,0 +1,201 @@
+package pt.ipp.estg.data.structures.Graph;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+import pt.ipp.estg.data.structures.Tree.IndexedMinHeap;
+
+import java.util.Arrays;
+
+final class PathSearch {
+    private PathSearch() {
+    }
+
+    static <T> PathResult<T> search(WeightedAdjacency graph, T[] vertices, int start, int target, ShortestPathMode mode) {
+        if (mode == null) throw new NullPointerException();
+
+        if (mode == ShortestPathMode.LINEAR_SCAN) return linearScan(graph, vertices, start, target);
+        if (mode == ShortestPathMode.BIDIRECTIONAL) return bidirectional(graph, vertices, start, target);
+
+        return aStar(graph, vertices, start, target, null);
+    }
+
+    static <T> PathResult<T> linearScan(WeightedAdjacency graph, T[] vertices, int start, int target) {
+        int numVertices = graph.vertexCount();
+        double[] distances = new double[numVertices];
+        int[] previous = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int settled = 0;
+
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(previous, -1);
+        distances[start] = 0;
+
+        while (true) {
+            int current = -1;
+            double minDistance = Double.POSITIVE_INFINITY;
+
+            for (int i = 0; i < numVertices; i++) {
+                if (!visited[i] && distances[i] < minDistance) {
+                    minDistance = distances[i];
+                    current = i;
+                }
+            }
+
+            if (current == -1) break;
+
+            visited[current] = true;
+            settled++;
+            if (current == target) break;
+
+            for (int slot = 0; slot < graph.slotCount(current); slot++) {
+                int neighbor = graph.neighbor(current, slot);
+                if (neighbor < 0 || visited[neighbor]) continue;
+
+                double distance = distances[current] + graph.weight(current, slot);
+                if (distance < distances[neighbor]) {
+                    distances[neighbor] = distance;
+                    previous[neighbor] = current;
+                }
+            }
+        }
+
+        return result(vertices, previous, null, start, target, target, distances[target], settled);
+    }
+
+    static <T> PathResult<T> aStar(WeightedAdjacency graph, T[] vertices, int start, int target, Heuristic<T> heuristic) {
+        int numVertices = graph.vertexCount();
+        double[] distances = new double[numVertices];
+        double[] estimates = heuristic == null ? null : new double[numVertices];
+        int[] previous = new int[numVertices];
+        IndexedMinHeap heap = new IndexedMinHeap(numVertices);
+        int settled = 0;
+
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(previous, -1);
+        if (estimates != null) Arrays.fill(estimates, Double.NaN);
+
+        distances[start] = 0;
+        heap.add(start, estimate(heuristic, estimates, vertices, start, target));
+
+        while (!heap.isEmpty()) {
+            int current = heap.removeMin();
+            settled++;
+            if (current == target) break;
+
+            for (int slot = 0; slot < graph.slotCount(current); slot++) {
+                int neighbor = graph.neighbor(current, slot);
+                if (neighbor < 0) continue;
+
+                double distance = distances[current] + graph.weight(current, slot);
+                if (distance < distances[neighbor]) {
+                    distances[neighbor] = distance;
+                    previous[neighbor] = current;
+                    heap.addOrDecreaseKey(neighbor, distance + estimate(heuristic, estimates, vertices, neighbor, target));
+                }
+            }
+        }
+
+        return result(vertices, previous, null, start, target, target, distances[target], settled);
+    }
+
+    private static <T> double estimate(Heuristic<T> heuristic, double[] estimates, T[] vertices, int vertex, int target) {
+        if (heuristic == null) return 0;
+
+        if (Double.isNaN(estimates[vertex])) {
+            double estimate = heuristic.estimate(vertices[vertex], vertices[target]);
+            if (!(estimate >= 0)) throw new IllegalArgumentException("Illegal estimate: " + estimate);
+
+            estimates[vertex] = estimate;
+        }
+
+        return estimates[vertex];
+    }
+
+    static <T> PathResult<T> bidirectional(WeightedAdjacency graph, T[] vertices, int start, int target) {
+        if (start == target) return result(vertices, null, null, start, target, start, 0, 1);
+
+        int numVertices = graph.vertexCount();
+        double[] forward = new double[numVertices];
+        double[] backward = new double[numVertices];
+        int[] forwardPrevious = new int[numVertices];
+        int[] backwardPrevious = new int[numVertices];
+        IndexedMinHeap forwardHeap = new IndexedMinHeap(numVertices);
+        IndexedMinHeap backwardHeap = new IndexedMinHeap(numVertices);
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+        int settled = 0;
+
+        Arrays.fill(forward, Double.POSITIVE_INFINITY);
+        Arrays.fill(backward, Double.POSITIVE_INFINITY);
+        Arrays.fill(forwardPrevious, -1);
+        Arrays.fill(backwardPrevious, -1);
+        forward[start] = 0;
+        backward[target] = 0;
+        forwardHeap.add(start, 0);
+        backwardHeap.add(target, 0);
+
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            if (forwardHeap.findMinKey() + backwardHeap.findMinKey() >= best) break;
+
+            boolean forwardStep = forwardHeap.findMinKey() <= backwardHeap.findMinKey();
+            IndexedMinHeap heap = forwardStep ? forwardHeap : backwardHeap;
+            double[] distances = forwardStep ? forward : backward;
+            double[] opposite = forwardStep ? backward : forward;
+            int[] previous = forwardStep ? forwardPrevious : backwardPrevious;
+
+            int current = heap.removeMin();
+            settled++;
+
+            for (int slot = 0; slot < graph.slotCount(current); slot++) {
+                int neighbor = graph.neighbor(current, slot);
+                if (neighbor < 0) continue;
+
+                double distance = distances[current] + graph.weight(current, slot);
+                if (distance < distances[neighbor]) {
+                    distances[neighbor] = distance;
+                    previous[neighbor] = current;
+                    heap.addOrDecreaseKey(neighbor, distance);
+
+                    if (distance + opposite[neighbor] < best) {
+                        best = distance + opposite[neighbor];
+                        meeting = neighbor;
+                    }
+                }
+            }
+        }
+
+        return result(vertices, forwardPrevious, backwardPrevious, start, target, meeting, best, settled);
+    }
+
+    private static <T> PathResult<T> result(T[] vertices, int[] previous, int[] next, int start, int target, int meeting, double weight, int settled) {
+        UnorderedListADT<T> path = new UnorderedArrayList<>();
+        if (weight == Double.POSITIVE_INFINITY || meeting < 0) return new PathResult<>(path, weight, settled);
+
+        int length = 1;
+        for (int vertex = meeting; vertex != start; vertex = previous[vertex]) {
+            length++;
+        }
+
+        int[] indices = new int[length];
+        int vertex = meeting;
+
+        for (int i = length - 1; i > 0; i--) {
+            indices[i] = vertex;
+            vertex = previous[vertex];
+        }
+        indices[0] = start;
+
+        for (int i = 0; i < length; i++) {
+            path.addToRear(vertices[indices[i]]);
+        }
+
+        if (next != null) {
+            for (vertex = meeting; vertex != target; ) {
+                vertex = next[vertex];
+                path.addToRear(vertices[vertex]);
+            }
+        }
+
+        return new PathResult<>(path, weight, settled);
+    }
+}
@@ -0,0 +1,7 @@
+package pt.ipp.estg.data.structures.Graph;
+
+public enum ShortestPathMode {
+    LINEAR_SCAN,
+    BINARY_HEAP,
+    BIDIRECTIONAL
+}
@@ -0,0 +1,11 @@
+package pt.ipp.estg.data.structures.Graph;
+
+interface WeightedAdjacency {
+    int vertexCount();
+
+    int slotCount(int vertex);
+
+    int neighbor(int vertex, int slot);
+
+    double weight(int vertex, int slot);
+}
@@ -0,0 +1,11 @@
+package pt.ipp.estg.data.structures.Map;
+
+public interface BiMapADT<K, V> extends MapADT<K, V> {
+    K getKey(V value);
+
+    void forcePut(K key, V value);
+
+    void removeValue(V value);
+
+    BiMapADT<V, K> inverse();
+}
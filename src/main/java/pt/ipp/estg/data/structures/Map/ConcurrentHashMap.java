@@ -0,0 +1,692 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+import pt.ipp.estg.data.structures.List.UnorderedLinkedList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class ConcurrentHashMap<K, V> implements MapADT<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int TRANSFER_STRIDE = 16;
+    private static final int MOVED = -1;
+    private static final int RESERVED = -2;
+    private final LongAdder count;
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private volatile Resize<K, V> resize;
+
+    public ConcurrentHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentHashMap(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < initialCapacity / DEFAULT_LOAD_FACTOR && capacity < MAXIMUM_CAPACITY) {
+            capacity <<= 1;
+        }
+
+        this.count = new LongAdder();
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.resize = null;
+    }
+
+    private static int spread(int h) {
+        return (h ^ (h >>> 16)) & 0x7fffffff;
+    }
+
+    private static int indexFor(int hash, int length) {
+        return hash & (length - 1);
+    }
+
+    private void addCount(long delta) {
+        this.count.add(delta);
+
+        if (delta > 0) this.checkResize();
+    }
+
+    private void checkResize() {
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        if (tab.length() < MAXIMUM_CAPACITY && this.count.sum() >= (long) (tab.length() * DEFAULT_LOAD_FACTOR)) {
+            Resize<K, V> current;
+
+            synchronized (this) {
+                if (this.resize == null && this.table == tab) this.resize = new Resize<>(tab);
+                current = this.resize;
+            }
+
+            if (current != null) this.transfer(current);
+        }
+    }
+
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(ForwardingNode<K, V> forwarding) {
+        this.transfer(forwarding.resize);
+
+        return forwarding.resize.nextTable;
+    }
+
+    private void transfer(Resize<K, V> resize) {
+        while (true) {
+            int start = resize.transferIndex.get();
+            if (start <= 0) return;
+
+            int bound = Math.max(start - TRANSFER_STRIDE, 0);
+            if (!resize.transferIndex.compareAndSet(start, bound)) continue;
+
+            for (int i = start - 1; i >= bound; i--) {
+                this.transferBin(resize, i);
+            }
+
+            if (resize.remaining.addAndGet(bound - start) == 0) {
+                this.table = resize.nextTable;
+                this.resize = null;
+                this.checkResize();
+                return;
+            }
+        }
+    }
+
+    private void transferBin(Resize<K, V> resize, int index) {
+        int length = resize.table.length();
+
+        while (true) {
+            Node<K, V> first = resize.table.get(index);
+
+            if (first == null) {
+                if (resize.table.compareAndSet(index, null, resize.forwarding)) return;
+            } else {
+                synchronized (first) {
+                    if (resize.table.get(index) == first) {
+                        if (first.hash == RESERVED) throw new IllegalStateException("Recursive update");
+
+                        Node<K, V> low = null;
+                        Node<K, V> high = null;
+
+                        for (Node<K, V> e = first; e != null; e = e.next) {
+                            if ((e.hash & length) == 0) {
+                                low = new Node<>(e.hash, e.key, e.value, low);
+                            } else {
+                                high = new Node<>(e.hash, e.key, e.value, high);
+                            }
+                        }
+
+                        resize.nextTable.set(index, low);
+                        resize.nextTable.set(index + length, high);
+                        resize.table.set(index, resize.forwarding);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    public V get(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            Node<K, V> e = tab.get(indexFor(hash, tab.length()));
+
+            if (e instanceof ForwardingNode) {
+                tab = ((ForwardingNode<K, V>) e).resize.nextTable;
+                continue;
+            }
+
+            while (e != null) {
+                if (e.hash == hash && key.equals(e.key)) {
+                    return e.value;
+                }
+                e = e.next;
+            }
+
+            return null;
+        }
+    }
+
+    public void put(K key, V value) {
+        this.putValue(key, value, false);
+    }
+
+    public V putIfAbsent(K key, V value) {
+        return this.putValue(key, value, true);
+    }
+
+    private V putValue(K key, V value, boolean onlyIfAbsent) {
+        if (key == null || value == null) throw new NullPointerException();
+
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            int index = indexFor(hash, tab.length());
+            Node<K, V> first = tab.get(index);
+
+            if (first == null) {
+                if (tab.compareAndSet(index, null, new Node<>(hash, key, value, null))) break;
+            } else if (first.hash == MOVED) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                boolean added = false;
+
+                synchronized (first) {
+                    if (tab.get(index) == first) {
+                        if (first.hash == RESERVED) throw new IllegalStateException("Recursive update");
+
+                        Node<K, V> e = first;
+
+                        while (true) {
+                            if (e.hash == hash && key.equals(e.key)) {
+                                V oldValue = e.value;
+                                if (!onlyIfAbsent) e.value = value;
+                                return oldValue;
+                            }
+                            if (e.next == null) {
+                                e.next = new Node<>(hash, key, value, null);
+                                break;
+                            }
+                            e = e.next;
+                        }
+
+                        added = true;
+                    }
+                }
+
+                if (added) break;
+            }
+        }
+
+        this.addCount(1);
+        return null;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V current = this.get(key);
+
+        if (current != null) return current;
+
+        return this.remap(key, (k, oldValue) -> oldValue != null ? oldValue : mappingFunction.apply(k));
+    }
+
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return this.remap(key, remappingFunction);
+    }
+
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) throw new NullPointerException();
+
+        return this.remap(key, (k, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value));
+    }
+
+    private V remap(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null) throw new NullPointerException();
+
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+        V result = null;
+        int delta = 0;
+
+        while (true) {
+            int index = indexFor(hash, tab.length());
+            Node<K, V> first = tab.get(index);
+
+            if (first == null) {
+                Node<K, V> reservation = new Node<>(RESERVED, null, null, null);
+
+                synchronized (reservation) {
+                    if (tab.compareAndSet(index, null, reservation)) {
+                        Node<K, V> node = null;
+
+                        try {
+                            result = remappingFunction.apply(key, null);
+                            if (result != null) {
+                                node = new Node<>(hash, key, result, null);
+                                delta = 1;
+                            }
+                        } finally {
+                            tab.set(index, node);
+                        }
+                        break;
+                    }
+                }
+            } else if (first.hash == MOVED) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                boolean done = false;
+
+                synchronized (first) {
+                    if (tab.get(index) == first) {
+                        if (first.hash == RESERVED) throw new IllegalStateException("Recursive update");
+
+                        Node<K, V> previous = null;
+                        Node<K, V> e = first;
+
+                        while (e != null && !(e.hash == hash && key.equals(e.key))) {
+                            previous = e;
+                            e = e.next;
+                        }
+
+                        result = remappingFunction.apply(key, e == null ? null : e.value);
+
+                        if (result != null) {
+                            if (e != null) {
+                                e.value = result;
+                            } else {
+                                previous.next = new Node<>(hash, key, result, null);
+                                delta = 1;
+                            }
+                        } else if (e != null) {
+                            if (previous == null) {
+                                tab.set(index, e.next);
+                            } else {
+                                previous.next = e.next;
+                            }
+                            delta = -1;
+                        }
+
+                        done = true;
+                    }
+                }
+
+                if (done) break;
+            }
+        }
+
+        if (delta != 0) this.addCount(delta);
+        return result;
+    }
+
+    public boolean putAll(MapADT.Entry<K, V>[] entries) {
+        for (MapADT.Entry<K, V> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            int index = indexFor(hash, tab.length());
+            Node<K, V> first = tab.get(index);
+
+            if (first == null) return;
+
+            if (first.hash == MOVED) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+                continue;
+            }
+
+            boolean removed = false;
+            boolean done = false;
+
+            synchronized (first) {
+                if (tab.get(index) == first) {
+                    Node<K, V> previous = null;
+                    Node<K, V> e = first;
+
+                    while (e != null) {
+                        if (e.hash == hash && key.equals(e.key)) {
+                            if (previous == null) {
+                                tab.set(index, e.next);
+                            } else {
+                                previous.next = e.next;
+                            }
+                            removed = true;
+                            break;
+                        }
+                        previous = e;
+                        e = e.next;
+                    }
+
+                    done = true;
+                }
+            }
+
+            if (removed) this.addCount(-1);
+            if (done) return;
+        }
+    }
+
+    public boolean containsKey(K key) {
+        return this.get(key) != null;
+    }
+
+    public boolean containsValue(V value) {
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        for (int i = 0; i < tab.length(); i++) {
+            if (this.binContainsValue(tab, i, value)) return true;
+        }
+
+        return false;
+    }
+
+    private boolean binContainsValue(AtomicReferenceArray<Node<K, V>> tab, int index, V value) {
+        Node<K, V> e = tab.get(index);
+
+        if (e instanceof ForwardingNode) {
+            AtomicReferenceArray<Node<K, V>> next = ((ForwardingNode<K, V>) e).resize.nextTable;
+            return this.binContainsValue(next, index, value) || this.binContainsValue(next, index + tab.length(), value);
+        }
+
+        for (; e != null; e = e.next) {
+            if (e.hash >= 0 && e.value.equals(value)) return true;
+        }
+
+        return false;
+    }
+
+    private void forEachNode(Consumer<Node<K, V>> action) {
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        for (int i = 0; i < tab.length(); i++) {
+            this.forEachNode(tab, i, action);
+        }
+    }
+
+    private void forEachNode(AtomicReferenceArray<Node<K, V>> tab, int index, Consumer<Node<K, V>> action) {
+        Node<K, V> e = tab.get(index);
+
+        if (e instanceof ForwardingNode) {
+            AtomicReferenceArray<Node<K, V>> next = ((ForwardingNode<K, V>) e).resize.nextTable;
+            this.forEachNode(next, index, action);
+            this.forEachNode(next, index + tab.length(), action);
+            return;
+        }
+
+        for (; e != null; e = e.next) {
+            if (e.hash >= 0) action.accept(e);
+        }
+    }
+
+    public UnorderedListADT<K> getKeys() {
+        UnorderedListADT<K> list = new UnorderedLinkedList<>();
+
+        this.forEachNode(node -> list.addToRear(node.key));
+
+        return list;
+    }
+
+    public UnorderedListADT<V> getValues() {
+        UnorderedListADT<V> list = new UnorderedLinkedList<>();
+
+        this.forEachNode(node -> list.addToRear(node.value));
+
+        return list;
+    }
+
+    public UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
+        UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedLinkedList<>();
+
+        this.forEachNode(node -> list.addToRear(new Entry(node.key, node.value)));
+
+        return list;
+    }
+
+    public Iterable<K> keys() {
+        return () -> new KeyIterator();
+    }
+
+    public Iterable<V> values() {
+        return () -> new ValueIterator();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator();
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        this.forEachNode(node -> action.accept(node.key, node.value));
+    }
+
+    public void clear() {
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+        int i = 0;
+
+        while (i < tab.length()) {
+            Node<K, V> first = tab.get(i);
+
+            if (first == null) {
+                i++;
+            } else if (first.hash == MOVED) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+                i = 0;
+            } else {
+                long removed = 0;
+
+                synchronized (first) {
+                    if (tab.get(i) == first) {
+                        for (Node<K, V> e = first; e != null; e = e.next) {
+                            if (e.hash >= 0) removed++;
+                        }
+                        tab.set(i, null);
+                        i++;
+                    }
+                }
+
+                if (removed != 0) this.addCount(-removed);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    public int size() {
+        long n = this.count.sum();
+
+        return n < 0 ? 0 : (n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n);
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEachNode(node -> sb.append(node.key).append("=").append(node.value).append(", "));
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private abstract class NodeIterator<E> implements Iterator<E> {
+        private final AtomicReferenceArray<Node<K, V>> baseTable;
+        private int baseIndex;
+        private AtomicReferenceArray<Node<K, V>>[] pendingTables;
+        private int[] pendingIndexes;
+        private int pendingCount;
+        private Node<K, V> current;
+        private Node<K, V> nextNode;
+
+        public NodeIterator() {
+            this.baseTable = ConcurrentHashMap.this.table;
+            this.baseIndex = 0;
+            this.pendingTables = (AtomicReferenceArray<Node<K, V>>[]) new AtomicReferenceArray<?>[4];
+            this.pendingIndexes = new int[4];
+            this.pendingCount = 0;
+            this.current = null;
+            this.nextNode = this.advance();
+        }
+
+        private void pushBin(AtomicReferenceArray<Node<K, V>> tab, int index) {
+            if (this.pendingCount == this.pendingTables.length) {
+                AtomicReferenceArray<Node<K, V>>[] largerTables = (AtomicReferenceArray<Node<K, V>>[]) new AtomicReferenceArray<?>[this.pendingCount * 2];
+                int[] largerIndexes = new int[this.pendingCount * 2];
+                System.arraycopy(this.pendingTables, 0, largerTables, 0, this.pendingCount);
+                System.arraycopy(this.pendingIndexes, 0, largerIndexes, 0, this.pendingCount);
+                this.pendingTables = largerTables;
+                this.pendingIndexes = largerIndexes;
+            }
+
+            this.pendingTables[this.pendingCount] = tab;
+            this.pendingIndexes[this.pendingCount] = index;
+            this.pendingCount++;
+        }
+
+        private Node<K, V> advance() {
+            while (true) {
+                if (this.current != null) {
+                    Node<K, V> e = this.current;
+                    this.current = e.next;
+                    if (e.hash >= 0) return e;
+                    continue;
+                }
+
+                AtomicReferenceArray<Node<K, V>> tab;
+                int index;
+
+                if (this.pendingCount > 0) {
+                    this.pendingCount--;
+                    tab = this.pendingTables[this.pendingCount];
+                    index = this.pendingIndexes[this.pendingCount];
+                    this.pendingTables[this.pendingCount] = null;
+                } else if (this.baseIndex < this.baseTable.length()) {
+                    tab = this.baseTable;
+                    index = this.baseIndex;
+                    this.baseIndex++;
+                } else {
+                    return null;
+                }
+
+                Node<K, V> bin = tab.get(index);
+
+                if (bin instanceof ForwardingNode) {
+                    AtomicReferenceArray<Node<K, V>> next = ((ForwardingNode<K, V>) bin).resize.nextTable;
+                    this.pushBin(next, index + tab.length());
+                    this.pushBin(next, index);
+                } else {
+                    this.current = bin;
+                }
+            }
+        }
+
+        protected Node<K, V> nextNode() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            Node<K, V> result = this.nextNode;
+            this.nextNode = this.advance();
+
+            return result;
+        }
+
+        public boolean hasNext() {
+            return this.nextNode != null;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class KeyIterator extends NodeIterator<K> {
+        public K next() {
+            return this.nextNode().key;
+        }
+    }
+
+    private class ValueIterator extends NodeIterator<V> {
+        public V next() {
+            return this.nextNode().value;
+        }
+    }
+
+    private class EntryIterator extends NodeIterator<MapADT.Entry<K, V>> {
+        public MapADT.Entry<K, V> next() {
+            Node<K, V> node = this.nextNode();
+            return new Entry(node.key, node.value);
+        }
+    }
+
+    private static class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private volatile V value;
+        private volatile Node<K, V> next;
+
+        public Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static class ForwardingNode<K, V> extends Node<K, V> {
+        private final Resize<K, V> resize;
+
+        public ForwardingNode(Resize<K, V> resize) {
+            super(MOVED, null, null, null);
+            this.resize = resize;
+        }
+    }
+
+    private static class Resize<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> table;
+        private final AtomicReferenceArray<Node<K, V>> nextTable;
+        private final ForwardingNode<K, V> forwarding;
+        private final AtomicInteger transferIndex;
+        private final AtomicInteger remaining;
+
+        public Resize(AtomicReferenceArray<Node<K, V>> table) {
+            this.table = table;
+            this.nextTable = new AtomicReferenceArray<>(table.length() * 2);
+            this.forwarding = new ForwardingNode<>(this);
+            this.transferIndex = new AtomicInteger(table.length());
+            this.remaining = new AtomicInteger(table.length());
+        }
+    }
+
+    private class Entry implements MapADT.Entry<K, V> {
+        private final K key;
+        private V value;
+        private MapADT.Entry<K, V> next;
+
+        public Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+            this.next = null;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public void setKey(K key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public void setValue(V value) {
+            this.value = value;
+            ConcurrentHashMap.this.put(this.key, value);
+        }
+
+        public MapADT.Entry<K, V> getNext() {
+            return next;
+        }
+
+        public void setNext(MapADT.Entry<K, V> next) {
+            this.next = next;
+        }
+    }
+}
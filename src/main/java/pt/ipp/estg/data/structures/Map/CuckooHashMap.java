@@ -0,0 +1,462 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+import pt.ipp.estg.data.structures.List.UnorderedLinkedList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+public class CuckooHashMap<K, V> implements MapADT<K, V> {
+    private static final int SLOTS_PER_BUCKET = 4;
+    private static final int STASH_SIZE = 4;
+    private static final int DEFAULT_BUCKETS = 4;
+    private static final int MAXIMUM_BUCKETS = 1 << 27;
+    private static final int MAX_KICKS = 500;
+    private static final float MAX_LOAD_FACTOR = 0.9f;
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;
+    private int bucketMask;
+    private int stashStart;
+    private int stashCount;
+    private int stashCapacity;
+    private int size;
+    private int random;
+
+    public CuckooHashMap() {
+        this(DEFAULT_BUCKETS * SLOTS_PER_BUCKET);
+    }
+
+    public CuckooHashMap(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        int buckets = DEFAULT_BUCKETS;
+        while (buckets * SLOTS_PER_BUCKET * MAX_LOAD_FACTOR < initialCapacity && buckets < MAXIMUM_BUCKETS) {
+            buckets <<= 1;
+        }
+
+        this.random = 0x2545F491;
+        this.allocate(buckets);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int buckets) {
+        this.stashStart = buckets * SLOTS_PER_BUCKET;
+        this.keys = (K[]) (new Object[this.stashStart + STASH_SIZE]);
+        this.values = (V[]) (new Object[this.stashStart + STASH_SIZE]);
+        this.hashes = new int[this.stashStart + STASH_SIZE];
+        this.bucketMask = buckets - 1;
+        this.stashCount = 0;
+        this.stashCapacity = STASH_SIZE;
+        this.size = 0;
+    }
+
+    private int firstBucket(int hash) {
+        return hash & this.bucketMask;
+    }
+
+    private int secondBucket(int hash) {
+        int h = hash * 0x9E3779B9;
+        int bucket = (h ^ (h >>> 15)) & this.bucketMask;
+
+        return bucket == this.firstBucket(hash) ? (bucket + 1) & this.bucketMask : bucket;
+    }
+
+    private int alternateBucket(int bucket, int hash) {
+        int first = this.firstBucket(hash);
+
+        return bucket == first ? this.secondBucket(hash) : first;
+    }
+
+    private int nextRandom() {
+        this.random ^= this.random << 13;
+        this.random ^= this.random >>> 17;
+        this.random ^= this.random << 5;
+        return this.random;
+    }
+
+    private int findInBucket(int bucket, Object key, int hash) {
+        int start = bucket * SLOTS_PER_BUCKET;
+
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (this.keys[slot] != null && this.hashes[slot] == hash && this.keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private int findSlot(Object key, int hash) {
+        int slot = this.findInBucket(this.firstBucket(hash), key, hash);
+        if (slot >= 0) return slot;
+
+        slot = this.findInBucket(this.secondBucket(hash), key, hash);
+        if (slot >= 0 || this.stashCount == 0) return slot;
+
+        for (int i = this.stashStart; i < this.stashStart + this.stashCount; i++) {
+            if (this.hashes[i] == hash && this.keys[i].equals(key)) return i;
+        }
+
+        return -1;
+    }
+
+    private int freeSlot(int bucket) {
+        int start = bucket * SLOTS_PER_BUCKET;
+
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (this.keys[slot] == null) return slot;
+        }
+
+        return -1;
+    }
+
+    private void store(int slot, K key, V value, int hash) {
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.hashes[slot] = hash;
+    }
+
+    private int freeSlotFor(int hash) {
+        int slot = this.freeSlot(this.firstBucket(hash));
+
+        return slot >= 0 ? slot : this.freeSlot(this.secondBucket(hash));
+    }
+
+    private void insert(K key, V value, int hash) {
+        int slot = this.freeSlotFor(hash);
+
+        if (slot >= 0) {
+            this.store(slot, key, value, hash);
+            return;
+        }
+
+        int bucket = (this.nextRandom() & 1) == 0 ? this.firstBucket(hash) : this.secondBucket(hash);
+
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int victim = bucket * SLOTS_PER_BUCKET + ((this.nextRandom() >>> 1) % SLOTS_PER_BUCKET);
+
+            K victimKey = this.keys[victim];
+            V victimValue = this.values[victim];
+            int victimHash = this.hashes[victim];
+            this.store(victim, key, value, hash);
+
+            key = victimKey;
+            value = victimValue;
+            hash = victimHash;
+            bucket = this.alternateBucket(bucket, hash);
+
+            slot = this.freeSlot(bucket);
+            if (slot >= 0) {
+                this.store(slot, key, value, hash);
+                return;
+            }
+        }
+
+        if (this.stashCount == this.stashCapacity && this.size * 2 < this.stashStart) this.expandStash();
+
+        if (this.stashCount < this.stashCapacity) {
+            this.store(this.stashStart + this.stashCount, key, value, hash);
+            this.stashCount++;
+            return;
+        }
+
+        this.rehash(key, value, hash);
+    }
+
+    private void expandStash() {
+        int length = this.stashStart + this.stashCapacity * 2;
+
+        this.keys = Arrays.copyOf(this.keys, length);
+        this.values = Arrays.copyOf(this.values, length);
+        this.hashes = Arrays.copyOf(this.hashes, length);
+        this.stashCapacity *= 2;
+    }
+
+    private void rehash(K pendingKey, V pendingValue, int pendingHash) {
+        K[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+        int oldSize = this.size;
+        int buckets = this.bucketMask + 1;
+
+        if (buckets == MAXIMUM_BUCKETS) throw new IllegalStateException("Map is full");
+
+        this.allocate(buckets * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                this.insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+
+        if (pendingKey != null) this.insert(pendingKey, pendingValue, pendingHash);
+
+        this.size = oldSize;
+    }
+
+    private void removeStashed(int slot) {
+        int last = this.stashStart + this.stashCount - 1;
+
+        this.store(slot, this.keys[last], this.values[last], this.hashes[last]);
+        this.store(last, null, null, 0);
+        this.stashCount--;
+    }
+
+    private void drainStash() {
+        for (int i = this.stashStart + this.stashCount - 1; i >= this.stashStart; i--) {
+            int slot = this.freeSlotFor(this.hashes[i]);
+
+            if (slot >= 0) {
+                this.store(slot, this.keys[i], this.values[i], this.hashes[i]);
+                this.removeStashed(i);
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        if (slot >= this.stashStart) {
+            this.removeStashed(slot);
+        } else {
+            this.store(slot, null, null, 0);
+            if (this.stashCount > 0) this.drainStash();
+        }
+
+        this.size--;
+    }
+
+    public V get(K key) {
+        int slot = this.findSlot(key, hash(key));
+
+        return slot < 0 ? null : this.values[slot];
+    }
+
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int slot = this.findSlot(key, hash);
+
+        if (slot >= 0) {
+            this.values[slot] = value;
+            return;
+        }
+
+        if (this.size + 1 > this.stashStart * MAX_LOAD_FACTOR) this.rehash(null, null, 0);
+
+        this.insert(key, value, hash);
+        this.size++;
+    }
+
+    public boolean putAll(MapADT.Entry<K, V>[] entries) {
+        for (MapADT.Entry<K, V> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(K key) {
+        int slot = this.findSlot(key, hash(key));
+
+        if (slot >= 0) this.removeSlot(slot);
+    }
+
+    public boolean containsKey(K key) {
+        return this.findSlot(key, hash(key)) >= 0;
+    }
+
+    public boolean containsValue(V value) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null && this.values[i].equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public UnorderedListADT<K> getKeys() {
+        UnorderedListADT<K> list = new UnorderedLinkedList<>();
+
+        for (K key : this.keys) {
+            if (key != null) {
+                list.addToRear(key);
+            }
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<V> getValues() {
+        UnorderedListADT<V> list = new UnorderedLinkedList<>();
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                list.addToRear(this.values[i]);
+            }
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
+        UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedLinkedList<>();
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                list.addToRear(new Entry(this.keys[i], this.values[i]));
+            }
+        }
+
+        return list;
+    }
+
+    public Iterable<K> keys() {
+        return () -> new KeyIterator();
+    }
+
+    public Iterable<V> values() {
+        return () -> new ValueIterator();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator();
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                action.accept(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        this.allocate(DEFAULT_BUCKETS);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                sb.append(this.keys[i]);
+                sb.append("=");
+                sb.append(this.values[i]);
+                sb.append(", ");
+            }
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        private final K[] keys;
+        private int slot;
+
+        public SlotIterator() {
+            this.keys = CuckooHashMap.this.keys;
+            this.slot = 0;
+            this.advance();
+        }
+
+        private void advance() {
+            while (this.slot < this.keys.length && this.keys[this.slot] == null) {
+                this.slot++;
+            }
+        }
+
+        protected int nextSlot() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            int result = this.slot;
+            this.slot++;
+            this.advance();
+
+            return result;
+        }
+
+        public boolean hasNext() {
+            return this.slot < this.keys.length;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class KeyIterator extends SlotIterator<K> {
+        public K next() {
+            return CuckooHashMap.this.keys[this.nextSlot()];
+        }
+    }
+
+    private class ValueIterator extends SlotIterator<V> {
+        public V next() {
+            return CuckooHashMap.this.values[this.nextSlot()];
+        }
+    }
+
+    private class EntryIterator extends SlotIterator<MapADT.Entry<K, V>> {
+        public MapADT.Entry<K, V> next() {
+            int slot = this.nextSlot();
+            return new Entry(CuckooHashMap.this.keys[slot], CuckooHashMap.this.values[slot]);
+        }
+    }
+
+    private class Entry implements MapADT.Entry<K, V> {
+        private final K key;
+        private V value;
+        private MapADT.Entry<K, V> next;
+
+        public Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+            this.next = null;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public void setKey(K key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public void setValue(V value) {
+            this.value = value;
+            CuckooHashMap.this.put(this.key, value);
+        }
+
+        public MapADT.Entry<K, V> getNext() {
+            return next;
+        }
+
+        public void setNext(MapADT.Entry<K, V> next) {
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,666 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+public class DurableMap<K, V> implements MapADT<K, V>, Closeable {
+    private static final int SNAPSHOT_MAGIC = 0x534E4150;
+    private static final int VERSION = 1;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte CLEAR = 3;
+    private static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 1_000_000;
+    private static final long ASYNC_INTERVAL_MILLIS = 100;
+    private static final int RECORD_HEADER = 8;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+    private final MapADT<K, V> map;
+    private final Path directory;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final FsyncPolicy policy;
+    private final long segmentSize;
+    private final int checkpointInterval;
+    private final Object syncLock;
+    private final RecordBuffer buffer;
+    private final DataOutputStream record;
+    private final byte[] header;
+    private final CRC32 crc;
+    private FileChannel channel;
+    private OutputStream output;
+    private long segmentStart;
+    private long segmentBytes;
+    private long sequence;
+    private volatile long durableSequence;
+    private int sinceCheckpoint;
+    private Thread flusher;
+    private boolean closed;
+
+    public DurableMap(MapADT<K, V> map, String directory, Serializer<K> keySerializer, Serializer<V> valueSerializer) throws IOException {
+        this(map, directory, keySerializer, valueSerializer, FsyncPolicy.GROUP_COMMIT);
+    }
+
+    public DurableMap(MapADT<K, V> map, String directory, Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                      FsyncPolicy policy) throws IOException {
+        this(map, directory, keySerializer, valueSerializer, policy, DEFAULT_SEGMENT_SIZE, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public DurableMap(MapADT<K, V> map, String directory, Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                      FsyncPolicy policy, long segmentSize, int checkpointInterval) throws IOException {
+        if (segmentSize <= 0) throw new IllegalArgumentException("Illegal segment size: " + segmentSize);
+        if (checkpointInterval < 0) throw new IllegalArgumentException("Illegal checkpoint interval: " + checkpointInterval);
+
+        this.map = map;
+        this.directory = Paths.get(directory);
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.policy = policy;
+        this.segmentSize = segmentSize;
+        this.checkpointInterval = checkpointInterval;
+        this.syncLock = new Object();
+        this.buffer = new RecordBuffer();
+        this.record = new DataOutputStream(this.buffer);
+        this.header = new byte[RECORD_HEADER];
+        this.crc = new CRC32();
+        this.closed = false;
+
+        Files.createDirectories(this.directory);
+        this.recover();
+        this.openSegment(this.sequence + 1);
+
+        if (policy == FsyncPolicy.ASYNC) {
+            this.flusher = new Thread(this::flushPeriodically, "durable-map-flusher");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        }
+    }
+
+    private Path path(String prefix, long sequence, String suffix) {
+        return this.directory.resolve(String.format("%s%020d%s", prefix, sequence, suffix));
+    }
+
+    private long[] list(String prefix, String suffix) throws IOException {
+        long[] found = new long[8];
+        int count = 0;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, prefix + "*" + suffix)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+
+                try {
+                    long sequence = Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+
+                    if (count == found.length) found = Arrays.copyOf(found, count * 2);
+                    found[count++] = sequence;
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+
+        found = Arrays.copyOf(found, count);
+        Arrays.sort(found);
+
+        return found;
+    }
+
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void recover() throws IOException {
+        this.map.clear();
+        this.sequence = 0;
+
+        long[] snapshots = this.list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+
+        for (int i = snapshots.length - 1; i >= 0; i--) {
+            if (this.loadSnapshot(snapshots[i])) break;
+
+            this.map.clear();
+            this.sequence = 0;
+        }
+
+        boolean intact = true;
+
+        for (long start : this.list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            Path file = this.path(SEGMENT_PREFIX, start, SEGMENT_SUFFIX);
+
+            if (intact) {
+                intact = this.replay(file);
+            } else {
+                Files.delete(file);
+            }
+        }
+
+        this.durableSequence = this.sequence;
+    }
+
+    private boolean loadSnapshot(long snapshot) {
+        Path file = this.path(SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX);
+
+        try (CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), new CRC32())) {
+            DataInputStream in = new DataInputStream(checked);
+
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != VERSION) return false;
+
+            long sequence = in.readLong();
+            int count = in.readInt();
+
+            for (int i = 0; i < count; i++) {
+                K key = this.keySerializer.read(in);
+                this.map.put(key, this.valueSerializer.read(in));
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) return false;
+
+            this.sequence = sequence;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean replay(Path file) throws IOException {
+        long valid = 0;
+        boolean intact = true;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] payload = new byte[64];
+
+            while (true) {
+                int length;
+
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+
+                int checksum;
+
+                try {
+                    checksum = in.readInt();
+                    if (length < 9) throw new EOFException();
+                    if (payload.length < length) payload = new byte[Math.max(length, payload.length * 2)];
+                    in.readFully(payload, 0, length);
+                } catch (EOFException e) {
+                    intact = false;
+                    break;
+                }
+
+                this.crc.reset();
+                this.crc.update(payload, 0, length);
+
+                if ((int) this.crc.getValue() != checksum) {
+                    intact = false;
+                    break;
+                }
+
+                long sequence = sequenceOf(payload);
+                if (sequence > this.sequence + 1) throw new IOException("Missing log records before sequence " + sequence + " in " + file);
+
+                this.apply(payload, length, file);
+
+                valid += RECORD_HEADER + length;
+            }
+        }
+
+        if (!intact) {
+            try (FileChannel truncate = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                truncate.truncate(valid);
+                truncate.force(true);
+            }
+        }
+
+        return intact;
+    }
+
+    private static long sequenceOf(byte[] payload) {
+        long sequence = 0;
+
+        for (int i = 0; i < 8; i++) {
+            sequence = (sequence << 8) | (payload[i] & 0xFF);
+        }
+
+        return sequence;
+    }
+
+    private void apply(byte[] payload, int length, Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+        long sequence = in.readLong();
+        byte op = in.readByte();
+
+        if (sequence <= this.sequence) return;
+
+        try {
+            if (op == PUT) {
+                K key = this.keySerializer.read(in);
+                this.map.put(key, this.valueSerializer.read(in));
+            } else if (op == REMOVE) {
+                this.map.remove(this.keySerializer.read(in));
+            } else if (op == CLEAR) {
+                this.map.clear();
+            } else {
+                throw new IOException("Unknown log operation: " + op);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new IOException("Corrupt log record " + sequence + " in " + file, e);
+        }
+
+        this.sequence = sequence;
+    }
+
+    private void openSegment(long start) throws IOException {
+        this.channel = FileChannel.open(this.path(SEGMENT_PREFIX, start, SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.output = new BufferedOutputStream(Channels.newOutputStream(this.channel), 1 << 16);
+        this.segmentStart = start;
+        this.segmentBytes = 0;
+        this.syncDirectory();
+    }
+
+    private void rollSegment() throws IOException {
+        this.output.flush();
+        this.channel.force(false);
+        this.channel.close();
+        this.durableSequence = this.sequence;
+        this.openSegment(this.sequence + 1);
+    }
+
+    private long append(byte op, K key, V value) throws IOException {
+        this.buffer.reset();
+        this.record.writeLong(this.sequence + 1);
+        this.record.writeByte(op);
+        if (op != CLEAR) this.keySerializer.write(key, this.record);
+        if (op == PUT) this.valueSerializer.write(value, this.record);
+
+        int length = this.buffer.size();
+        this.crc.reset();
+        this.crc.update(this.buffer.array(), 0, length);
+
+        int checksum = (int) this.crc.getValue();
+        this.header[0] = (byte) (length >>> 24);
+        this.header[1] = (byte) (length >>> 16);
+        this.header[2] = (byte) (length >>> 8);
+        this.header[3] = (byte) length;
+        this.header[4] = (byte) (checksum >>> 24);
+        this.header[5] = (byte) (checksum >>> 16);
+        this.header[6] = (byte) (checksum >>> 8);
+        this.header[7] = (byte) checksum;
+
+        this.output.write(this.header);
+        this.output.write(this.buffer.array(), 0, length);
+        this.segmentBytes += RECORD_HEADER + length;
+        this.sequence++;
+
+        if (this.policy == FsyncPolicy.EVERY_WRITE) {
+            this.output.flush();
+            this.channel.force(false);
+            this.durableSequence = this.sequence;
+        }
+
+        return this.sequence;
+    }
+
+    private void afterAppend() throws IOException {
+        if (this.segmentBytes >= this.segmentSize) this.rollSegment();
+
+        this.sinceCheckpoint++;
+        if (this.checkpointInterval > 0 && this.sinceCheckpoint >= this.checkpointInterval) this.checkpoint();
+    }
+
+    private void commit(long sequence) {
+        if (this.policy == FsyncPolicy.GROUP_COMMIT) this.sync(sequence);
+    }
+
+    private void sync(long sequence) {
+        synchronized (this.syncLock) {
+            if (this.durableSequence >= sequence) return;
+
+            FileChannel target;
+            long upTo;
+
+            synchronized (this) {
+                if (this.closed) return;
+
+                try {
+                    this.output.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                target = this.channel;
+                upTo = this.sequence;
+            }
+
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            this.durableSequence = Math.max(this.durableSequence, upTo);
+        }
+    }
+
+    private void flushPeriodically() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(ASYNC_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long current;
+            synchronized (this) {
+                current = this.sequence;
+            }
+
+            this.sync(current);
+        }
+    }
+
+    private void checkOpen() {
+        if (this.closed) throw new IllegalStateException("Map is closed");
+    }
+
+    public synchronized void checkpoint() throws IOException {
+        this.checkOpen();
+        this.rollSegment();
+
+        Path file = this.path(SNAPSHOT_PREFIX, this.sequence, SNAPSHOT_SUFFIX);
+        Path temporary = Paths.get(file + ".tmp");
+
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16), new CRC32());
+            DataOutputStream data = new DataOutputStream(checked);
+
+            data.writeInt(SNAPSHOT_MAGIC);
+            data.writeInt(VERSION);
+            data.writeLong(this.sequence);
+            data.writeInt(this.map.size());
+
+            for (MapADT.Entry<K, V> entry : this.map.entries()) {
+                this.keySerializer.write(entry.getKey(), data);
+                this.valueSerializer.write(entry.getValue(), data);
+            }
+
+            data.writeLong(checked.getChecksum().getValue());
+            data.flush();
+            out.force(true);
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.syncDirectory();
+
+        for (long start : this.list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (start < this.segmentStart) Files.delete(this.path(SEGMENT_PREFIX, start, SEGMENT_SUFFIX));
+        }
+
+        for (long snapshot : this.list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (snapshot < this.sequence) Files.delete(this.path(SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX));
+        }
+
+        this.sinceCheckpoint = 0;
+    }
+
+    public void flush() {
+        long current;
+
+        synchronized (this) {
+            this.checkOpen();
+            current = this.sequence;
+        }
+
+        this.sync(current);
+    }
+
+    public synchronized long lastSequence() {
+        return this.sequence;
+    }
+
+    public long durableSequence() {
+        return this.durableSequence;
+    }
+
+    public synchronized V get(K key) {
+        return this.map.get(key);
+    }
+
+    public void put(K key, V value) {
+        if (key == null || value == null) throw new NullPointerException();
+
+        long sequence;
+
+        synchronized (this) {
+            this.checkOpen();
+
+            try {
+                sequence = this.append(PUT, key, value);
+                this.map.put(key, value);
+                this.afterAppend();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        this.commit(sequence);
+    }
+
+    public boolean putAll(MapADT.Entry<K, V>[] entries) {
+        for (MapADT.Entry<K, V> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(K key) {
+        long sequence;
+
+        synchronized (this) {
+            this.checkOpen();
+            if (!this.map.containsKey(key)) return;
+
+            try {
+                sequence = this.append(REMOVE, key, null);
+                this.map.remove(key);
+                this.afterAppend();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        this.commit(sequence);
+    }
+
+    public synchronized boolean containsKey(K key) {
+        return this.map.containsKey(key);
+    }
+
+    public synchronized boolean containsValue(V value) {
+        return this.map.containsValue(value);
+    }
+
+    public synchronized UnorderedListADT<K> getKeys() {
+        return this.map.getKeys();
+    }
+
+    public synchronized UnorderedListADT<V> getValues() {
+        return this.map.getValues();
+    }
+
+    public synchronized UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
+        UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedArrayList<>();
+
+        for (MapADT.Entry<K, V> entry : this.map.entries()) {
+            list.addToRear(new Entry(entry));
+        }
+
+        return list;
+    }
+
+    public Iterable<K> keys() {
+        return this.map.keys();
+    }
+
+    public Iterable<V> values() {
+        return this.map.values();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator(this.map.entries().iterator());
+    }
+
+    public synchronized void forEach(BiConsumer<? super K, ? super V> action) {
+        this.map.forEach(action);
+    }
+
+    public void clear() {
+        long sequence;
+
+        synchronized (this) {
+            this.checkOpen();
+
+            try {
+                sequence = this.append(CLEAR, null, null);
+                this.map.clear();
+                this.afterAppend();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        this.commit(sequence);
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    public synchronized int size() {
+        return this.map.size();
+    }
+
+    public void close() throws IOException {
+        if (this.flusher != null) {
+            this.flusher.interrupt();
+
+            try {
+                this.flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            if (this.closed) return;
+
+            this.output.flush();
+            this.channel.force(false);
+            this.channel.close();
+            this.durableSequence = this.sequence;
+            this.closed = true;
+        }
+    }
+
+    public synchronized String toString() {
+        return this.map.toString();
+    }
+
+    private static class RecordBuffer extends ByteArrayOutputStream {
+        public byte[] array() {
+            return this.buf;
+        }
+    }
+
+    private class EntryIterator implements Iterator<MapADT.Entry<K, V>> {
+        private final Iterator<MapADT.Entry<K, V>> iterator;
+
+        public EntryIterator(Iterator<MapADT.Entry<K, V>> iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        public MapADT.Entry<K, V> next() {
+            return new Entry(this.iterator.next());
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class Entry implements MapADT.Entry<K, V> {
+        private final MapADT.Entry<K, V> entry;
+
+        public Entry(MapADT.Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        public K getKey() {
+            return this.entry.getKey();
+        }
+
+        public void setKey(K key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public V getValue() {
+            return this.entry.getValue();
+        }
+
+        public void setValue(V value) {
+            DurableMap.this.put(this.entry.getKey(), value);
+        }
+
+        public MapADT.Entry<K, V> getNext() {
+            return this.entry.getNext();
+        }
+
+        public void setNext(MapADT.Entry<K, V> next) {
+            this.entry.setNext(next);
+        }
+    }
+}
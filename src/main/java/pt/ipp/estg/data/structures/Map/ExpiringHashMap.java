@@ -0,0 +1,362 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+import pt.ipp.estg.data.structures.Queue.TimingWheel;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+public class ExpiringHashMap<K, V> implements MapADT<K, V> {
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final HashMap<K, Node> map;
+    private final TimingWheel<Node> wheel;
+    private final TimeSource timeSource;
+    private final long timeToLive;
+    private final UnorderedListADT<BiConsumer<? super K, ? super V>> listeners;
+    private boolean sweeping;
+
+    public ExpiringHashMap(long timeToLive, TimeUnit unit) {
+        this(timeToLive, unit, TimeSource.SYSTEM);
+    }
+
+    public ExpiringHashMap(long timeToLive, TimeUnit unit, TimeSource timeSource) {
+        this(timeToLive, unit, timeSource, DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    public ExpiringHashMap(long timeToLive, TimeUnit unit, TimeSource timeSource, long tickDuration, TimeUnit tickUnit) {
+        if (timeToLive <= 0) throw new IllegalArgumentException("Illegal time to live: " + timeToLive);
+
+        this.map = new HashMap<>();
+        this.wheel = new TimingWheel<>(tickUnit.toNanos(tickDuration), timeSource.nanoTime());
+        this.timeSource = timeSource;
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.listeners = new UnorderedArrayList<>();
+        this.sweeping = false;
+    }
+
+    private long expire() {
+        long now = this.timeSource.nanoTime();
+
+        if (!this.sweeping && !this.wheel.isEmpty()) {
+            this.sweeping = true;
+
+            try {
+                this.wheel.advance(now, this::evict);
+            } finally {
+                this.sweeping = false;
+            }
+        }
+
+        return now;
+    }
+
+    private void evict(Node node) {
+        this.map.remove(node.key);
+
+        for (BiConsumer<? super K, ? super V> listener : this.listeners) {
+            listener.accept(node.key, node.value);
+        }
+    }
+
+    private boolean isLive(Node node, long now) {
+        return node.timeout.getDeadline() - now > 0;
+    }
+
+    private Node liveNode(K key, long now) {
+        Node node = this.map.get(key);
+
+        if (node == null || this.isLive(node, now)) return node;
+
+        this.wheel.cancel(node.timeout);
+        this.evict(node);
+
+        return null;
+    }
+
+    public void cleanUp() {
+        this.expire();
+    }
+
+    public void addExpirationListener(BiConsumer<? super K, ? super V> listener) {
+        this.listeners.addToRear(listener);
+    }
+
+    public void removeExpirationListener(BiConsumer<? super K, ? super V> listener) {
+        if (this.listeners.contains(listener)) this.listeners.remove(listener);
+    }
+
+    public V get(K key) {
+        Node node = this.liveNode(key, this.expire());
+
+        return node == null ? null : node.value;
+    }
+
+    public void put(K key, V value) {
+        this.put(key, value, this.timeToLive, TimeUnit.NANOSECONDS);
+    }
+
+    public void put(K key, V value, long timeToLive, TimeUnit unit) {
+        if (timeToLive <= 0) throw new IllegalArgumentException("Illegal time to live: " + timeToLive);
+
+        long deadline = this.expire() + unit.toNanos(timeToLive);
+        Node node = this.map.get(key);
+
+        if (node != null) {
+            node.value = value;
+            this.wheel.reschedule(node.timeout, deadline);
+            return;
+        }
+
+        node = new Node(key, value);
+        node.timeout = this.wheel.schedule(node, deadline);
+        this.map.put(key, node);
+    }
+
+    public boolean expireAfter(K key, long timeToLive, TimeUnit unit) {
+        if (timeToLive <= 0) throw new IllegalArgumentException("Illegal time to live: " + timeToLive);
+
+        long now = this.expire();
+        Node node = this.liveNode(key, now);
+
+        if (node == null) return false;
+
+        this.wheel.reschedule(node.timeout, now + unit.toNanos(timeToLive));
+        return true;
+    }
+
+    public long getTimeToLive(K key, TimeUnit unit) {
+        long now = this.expire();
+        Node node = this.liveNode(key, now);
+
+        return node == null ? -1 : unit.convert(node.timeout.getDeadline() - now, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean putAll(MapADT.Entry<K, V>[] entries) {
+        for (MapADT.Entry<K, V> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(K key) {
+        this.expire();
+
+        Node node = this.map.get(key);
+
+        if (node != null) {
+            this.wheel.cancel(node.timeout);
+            this.map.remove(key);
+        }
+    }
+
+    public boolean containsKey(K key) {
+        return this.liveNode(key, this.expire()) != null;
+    }
+
+    public boolean containsValue(V value) {
+        long now = this.expire();
+
+        for (Node node : this.map.values()) {
+            if (this.isLive(node, now) && node.value.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public UnorderedListADT<K> getKeys() {
+        UnorderedListADT<K> list = new UnorderedArrayList<>();
+
+        for (K key : this.keys()) {
+            list.addToRear(key);
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<V> getValues() {
+        UnorderedListADT<V> list = new UnorderedArrayList<>();
+
+        for (V value : this.values()) {
+            list.addToRear(value);
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
+        UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedArrayList<>();
+
+        for (MapADT.Entry<K, V> entry : this.entries()) {
+            list.addToRear(entry);
+        }
+
+        return list;
+    }
+
+    public Iterable<K> keys() {
+        return () -> new KeyIterator();
+    }
+
+    public Iterable<V> values() {
+        return () -> new ValueIterator();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator();
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        long now = this.expire();
+
+        for (Node node : this.map.values()) {
+            if (this.isLive(node, now)) {
+                action.accept(node.key, node.value);
+            }
+        }
+    }
+
+    public void clear() {
+        this.map.clear();
+        this.wheel.clear();
+    }
+
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    public int size() {
+        this.expire();
+
+        return this.map.size();
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (MapADT.Entry<K, V> entry : this.entries()) {
+            sb.append(entry.getKey());
+            sb.append("=");
+            sb.append(entry.getValue());
+            sb.append(", ");
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private class Node {
+        private final K key;
+        private V value;
+        private TimingWheel.Timeout<Node> timeout;
+
+        public Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private abstract class NodeIterator<E> implements Iterator<E> {
+        private final Iterator<Node> iterator;
+        private final long now;
+        private Node next;
+
+        public NodeIterator() {
+            this.now = ExpiringHashMap.this.expire();
+            this.iterator = ExpiringHashMap.this.map.values().iterator();
+            this.advance();
+        }
+
+        private void advance() {
+            this.next = null;
+
+            while (this.iterator.hasNext()) {
+                Node node = this.iterator.next();
+
+                if (ExpiringHashMap.this.isLive(node, this.now)) {
+                    this.next = node;
+                    return;
+                }
+            }
+        }
+
+        protected Node nextNode() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            Node result = this.next;
+            this.advance();
+
+            return result;
+        }
+
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class KeyIterator extends NodeIterator<K> {
+        public K next() {
+            return this.nextNode().key;
+        }
+    }
+
+    private class ValueIterator extends NodeIterator<V> {
+        public V next() {
+            return this.nextNode().value;
+        }
+    }
+
+    private class EntryIterator extends NodeIterator<MapADT.Entry<K, V>> {
+        public MapADT.Entry<K, V> next() {
+            return new Entry(this.nextNode());
+        }
+    }
+
+    private class Entry implements MapADT.Entry<K, V> {
+        private final Node node;
+        private MapADT.Entry<K, V> next;
+
+        public Entry(Node node) {
+            this.node = node;
+            this.next = null;
+        }
+
+        public K getKey() {
+            return this.node.key;
+        }
+
+        public void setKey(K key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public V getValue() {
+            return this.node.value;
+        }
+
+        public void setValue(V value) {
+            this.node.value = value;
+        }
+
+        public MapADT.Entry<K, V> getNext() {
+            return next;
+        }
+
+        public void setNext(MapADT.Entry<K, V> next) {
+            this.next = next;
+        }
+    }
+}
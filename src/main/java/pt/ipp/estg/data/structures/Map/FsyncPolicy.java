@@ -0,0 +1,7 @@
+package pt.ipp.estg.data.structures.Map;
+
+public enum FsyncPolicy {
+    EVERY_WRITE,
+    GROUP_COMMIT,
+    ASYNC
+}
@@ -0,0 +1,221 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+public class HashBiMap<K, V> implements BiMapADT<K, V> {
+    private final HashMap<K, V> forward;
+    private final HashMap<V, K> backward;
+    private final HashBiMap<V, K> inverse;
+
+    public HashBiMap() {
+        this.forward = new HashMap<>();
+        this.backward = new HashMap<>();
+        this.inverse = new HashBiMap<>(this.backward, this.forward, this);
+    }
+
+    private HashBiMap(HashMap<K, V> forward, HashMap<V, K> backward, HashBiMap<V, K> inverse) {
+        this.forward = forward;
+        this.backward = backward;
+        this.inverse = inverse;
+    }
+
+    public V get(K key) {
+        return this.forward.get(key);
+    }
+
+    public K getKey(V value) {
+        return this.backward.get(value);
+    }
+
+    public void put(K key, V value) {
+        if (key == null || value == null) throw new NullPointerException();
+
+        K existing = this.backward.get(value);
+
+        if (existing != null) {
+            if (existing.equals(key)) return;
+            throw new IllegalArgumentException("Value already present: " + value);
+        }
+
+        this.link(key, value);
+    }
+
+    public void forcePut(K key, V value) {
+        if (key == null || value == null) throw new NullPointerException();
+
+        K existing = this.backward.get(value);
+
+        if (existing != null) {
+            if (existing.equals(key)) return;
+            this.forward.remove(existing);
+        }
+
+        this.link(key, value);
+    }
+
+    private void link(K key, V value) {
+        V previous = this.forward.get(key);
+
+        if (previous != null) this.backward.remove(previous);
+
+        this.forward.put(key, value);
+        this.backward.put(value, key);
+    }
+
+    public boolean putAll(MapADT.Entry<K, V>[] entries) {
+        for (MapADT.Entry<K, V> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(K key) {
+        V value = this.forward.get(key);
+
+        if (value != null) {
+            this.forward.remove(key);
+            this.backward.remove(value);
+        }
+    }
+
+    public void removeValue(V value) {
+        this.inverse.remove(value);
+    }
+
+    public BiMapADT<V, K> inverse() {
+        return this.inverse;
+    }
+
+    public boolean containsKey(K key) {
+        return this.forward.containsKey(key);
+    }
+
+    public boolean containsValue(V value) {
+        return this.backward.containsKey(value);
+    }
+
+    public UnorderedListADT<K> getKeys() {
+        UnorderedListADT<K> list = new UnorderedArrayList<>();
+
+        for (K key : this.forward.keys()) {
+            list.addToRear(key);
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<V> getValues() {
+        UnorderedListADT<V> list = new UnorderedArrayList<>();
+
+        for (V value : this.forward.values()) {
+            list.addToRear(value);
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
+        UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedArrayList<>();
+
+        for (MapADT.Entry<K, V> entry : this.entries()) {
+            list.addToRear(entry);
+        }
+
+        return list;
+    }
+
+    public Iterable<K> keys() {
+        return this.forward.keys();
+    }
+
+    public Iterable<V> values() {
+        return this.backward.keys();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator(this.forward.entries().iterator());
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        this.forward.forEach(action);
+    }
+
+    public void clear() {
+        this.forward.clear();
+        this.backward.clear();
+    }
+
+    public boolean isEmpty() {
+        return this.forward.isEmpty();
+    }
+
+    public int size() {
+        return this.forward.size();
+    }
+
+    public String toString() {
+        return this.forward.toString();
+    }
+
+    private class EntryIterator implements Iterator<MapADT.Entry<K, V>> {
+        private final Iterator<MapADT.Entry<K, V>> iterator;
+
+        public EntryIterator(Iterator<MapADT.Entry<K, V>> iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        public MapADT.Entry<K, V> next() {
+            return new Entry(this.iterator.next());
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class Entry implements MapADT.Entry<K, V> {
+        private final MapADT.Entry<K, V> entry;
+        private MapADT.Entry<K, V> next;
+
+        public Entry(MapADT.Entry<K, V> entry) {
+            this.entry = entry;
+            this.next = null;
+        }
+
+        public K getKey() {
+            return this.entry.getKey();
+        }
+
+        public void setKey(K key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public V getValue() {
+            return this.entry.getValue();
+        }
+
+        public void setValue(V value) {
+            HashBiMap.this.put(this.entry.getKey(), value);
+        }
+
+        public MapADT.Entry<K, V> getNext() {
+            return next;
+        }
+
+        public void setNext(MapADT.Entry<K, V> next) {
+            this.next = next;
+        }
+    }
+}
@@ -1,17 +1,57 @@
 package pt.ipp.estg.data.structures.Map;
 
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
 import pt.ipp.estg.data.structures.List.UnorderedLinkedList;
 import pt.ipp.estg.data.structures.List.UnorderedListADT;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 public class HashMap<K, V> implements MapADT<K, V> {
     private final int DEFAULT_CAPACITY = 16;
     private final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private final int MIGRATION_STEP = 4;
+    private final int TREEIFY_THRESHOLD = 8;
+    private final int UNTREEIFY_THRESHOLD = 6;
+    private final int MIN_TREEIFY_CAPACITY = 64;
+    private final boolean incrementalResize;
     private Entry<K, V>[] buckets;
+    private Entry<K, V>[] oldBuckets;
+    private int migrated;
     private int size;
+    private int modCount;
+    private MapStatistics statistics;
 
     public HashMap() {
-        this.buckets = new Entry[DEFAULT_CAPACITY];
+        this(false);
+    }
+
+    public HashMap(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    public HashMap(boolean incrementalResize) {
+        this(0, incrementalResize);
+    }
+
+    public HashMap(int initialCapacity, boolean incrementalResize) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * DEFAULT_LOAD_FACTOR < initialCapacity && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+
+        this.incrementalResize = incrementalResize;
+        this.buckets = new Entry[capacity];
+        this.oldBuckets = null;
+        this.migrated = 0;
         this.size = 0;
+        this.modCount = 0;
+        this.statistics = null;
         initEntry(buckets);
     }
 
@@ -21,61 +61,515 @@ public class HashMap<K, V> implements MapADT<K, V> {
         }
     }
 
+    private int indexFor(int hash, int length) {
+        return Math.abs(hash % length);
+    }
+
+    private Entry<K, V>[] tableFor(int hash) {
+        if (this.oldBuckets != null && this.indexFor(hash, this.oldBuckets.length) >= this.migrated) {
+            return this.oldBuckets;
+        }
+
+        return this.buckets;
+    }
+
     private void expandCapacity() {
-        Entry<K, V>[] oldBuckets = this.buckets;
+        this.finishMigration();
+
+        long start = this.statistics == null ? 0 : System.nanoTime();
+
+        this.oldBuckets = this.buckets;
         this.buckets = new Entry[this.buckets.length * 2];
-        this.size = 0;
+        this.migrated = 0;
+        this.modCount++;
 
         this.initEntry(buckets);
-        this.putAll(oldBuckets);
+        this.migrateBuckets(this.incrementalResize ? MIGRATION_STEP : this.oldBuckets.length);
+
+        if (this.statistics != null) this.statistics.recordResize(System.nanoTime() - start);
     }
 
-    public V get(K key) {
-        Entry<K, V> entry = this.buckets[Math.abs(key.hashCode() % this.buckets.length)];
+    private void migrateBuckets(int count) {
+        if (this.oldBuckets == null) return;
+
+        for (int i = 0; i < count && this.migrated < this.oldBuckets.length; i++) {
+            Entry<K, V> entry = this.oldBuckets[this.migrated];
+            int lowIndex = -1;
+            int highIndex = -1;
+
+            while (entry != null) {
+                Entry<K, V> next = entry.getNext();
+                if (entry instanceof TreeEntry) entry = new Entry<>(entry.hash, entry.key, entry.value);
+
+                int index = this.indexFor(entry.hash, this.buckets.length);
+                entry.setNext(this.buckets[index]);
+                this.buckets[index] = entry;
+                entry = next;
+
+                if (lowIndex == -1 || lowIndex == index) {
+                    lowIndex = index;
+                } else {
+                    highIndex = index;
+                }
+            }
 
-        if (entry == null) return null;
+            if (lowIndex != -1) this.treeifyIfNeeded(this.buckets, lowIndex);
+            if (highIndex != -1) this.treeifyIfNeeded(this.buckets, highIndex);
+
+            this.oldBuckets[this.migrated] = null;
+            this.migrated++;
+        }
+
+        if (this.migrated == this.oldBuckets.length) {
+            this.oldBuckets = null;
+            this.migrated = 0;
+        }
+    }
+
+    private void migrate(int count) {
+        if (this.oldBuckets == null) return;
+
+        long start = this.statistics == null ? 0 : System.nanoTime();
+        this.migrateBuckets(count);
+        if (this.statistics != null) this.statistics.recordMigration(System.nanoTime() - start);
+    }
+
+    private void finishMigration() {
+        if (this.oldBuckets != null) this.migrate(this.oldBuckets.length);
+    }
+
+    private void ensureCapacity() {
+        if ((1.0 * (this.size + 1)) / this.buckets.length > this.DEFAULT_LOAD_FACTOR) this.expandCapacity();
+    }
+
+    private void link(Entry<K, V>[] table, int index, int hash, K key, V value) {
+        if (table[index] instanceof TreeEntry) {
+            this.treeInsert(table, index, new TreeEntry<>(hash, key, value));
+        } else {
+            table[index] = new Entry<>(hash, key, value, table[index]);
+            this.treeifyIfNeeded(table, index);
+        }
+        this.size++;
+        this.modCount++;
+    }
+
+    private void unlink(Entry<K, V>[] table, int index, Entry<K, V> entry) {
+        if (entry instanceof TreeEntry) {
+            this.treeRemove(table, index, (TreeEntry<K, V>) entry);
+        } else if (table[index] == entry) {
+            table[index] = entry.getNext();
+        } else {
+            Entry<K, V> previous = table[index];
+            while (previous.getNext() != entry) {
+                previous = previous.getNext();
+            }
+            previous.setNext(entry.getNext());
+        }
+        this.size--;
+        this.modCount++;
+    }
+
+    private Entry<K, V> find(Entry<K, V> first, int hash, K key) {
+        if (first instanceof TreeEntry) return this.treeFind((TreeEntry<K, V>) first, hash, key);
+
+        Entry<K, V> entry = first;
+
+        while (entry != null && !(entry.hash == hash && entry.getKey().equals(key))) {
+            entry = entry.getNext();
+        }
+
+        return entry;
+    }
+
+    private int chainLength(Entry<K, V> entry, int limit) {
+        int length = 0;
+
+        while (entry != null && length < limit) {
+            length++;
+            entry = entry.getNext();
+        }
+
+        return length;
+    }
+
+    private void treeifyIfNeeded(Entry<K, V>[] table, int index) {
+        if (table.length < MIN_TREEIFY_CAPACITY || table[index] instanceof TreeEntry) return;
+        if (this.chainLength(table[index], TREEIFY_THRESHOLD) < TREEIFY_THRESHOLD) return;
+
+        Entry<K, V> entry = table[index];
+        table[index] = null;
 
         while (entry != null) {
-            if (entry.getKey().equals(key)) {
-                return entry.getValue();
+            Entry<K, V> next = entry.getNext();
+            TreeEntry<K, V> node = new TreeEntry<>(entry.hash, entry.key, entry.value);
+
+            if (table[index] == null) {
+                table[index] = node;
+            } else {
+                this.treeInsert(table, index, node);
             }
+            entry = next;
+        }
+    }
+
+    private void untreeify(Entry<K, V>[] table, int index) {
+        Entry<K, V> entry = table[index];
+        table[index] = null;
+
+        while (entry != null) {
+            table[index] = new Entry<>(entry.hash, entry.key, entry.value, table[index]);
             entry = entry.getNext();
         }
+    }
+
+    private int compareKeys(K key, K other) {
+        if (key instanceof Comparable && key.getClass() == other.getClass()) {
+            return ((Comparable<Object>) key).compareTo(other);
+        }
+
+        return 0;
+    }
+
+    private int tieBreakOrder(K key, K other) {
+        int order = key.getClass().getName().compareTo(other.getClass().getName());
+
+        if (order == 0) order = System.identityHashCode(key) <= System.identityHashCode(other) ? -1 : 1;
+
+        return order;
+    }
+
+    private TreeEntry<K, V> treeFind(TreeEntry<K, V> node, int hash, K key) {
+        while (node != null) {
+            if (hash < node.getHash()) {
+                node = node.left;
+            } else if (hash > node.getHash()) {
+                node = node.right;
+            } else if (node.getKey().equals(key)) {
+                return node;
+            } else {
+                int order = this.compareKeys(key, node.getKey());
+
+                if (order < 0) {
+                    node = node.left;
+                } else if (order > 0) {
+                    node = node.right;
+                } else {
+                    TreeEntry<K, V> found = this.treeFind(node.right, hash, key);
+                    if (found != null) return found;
+                    node = node.left;
+                }
+            }
+        }
 
         return null;
     }
 
-    public void put(K key, V value) {
-        if ((1.0 * this.size) / this.buckets.length >= this.DEFAULT_LOAD_FACTOR) this.expandCapacity();
+    private boolean treeContains(TreeEntry<K, V> node, TreeEntry<K, V> target) {
+        return this.treeFind(node, target.getHash(), target.getKey()) == target;
+    }
+
+    private void treeInsert(Entry<K, V>[] table, int index, TreeEntry<K, V> node) {
+        TreeEntry<K, V> root = (TreeEntry<K, V>) table[index];
+
+        node.setNext(root.getNext());
+        node.previous = root;
+        if (root.getNext() != null) ((TreeEntry<K, V>) root.getNext()).previous = node;
+        root.setNext(node);
+
+        this.moveRootToFront(table, index, this.insertNode(root, node));
+    }
 
-        Entry<K, V> newEntry = new Entry<>(key, value);
+    private TreeEntry<K, V> insertNode(TreeEntry<K, V> node, TreeEntry<K, V> newNode) {
+        if (node == null) return newNode;
 
-        if (!this.containsKey(key)) {
-            this.buckets[Math.abs(key.hashCode() % this.buckets.length)] = newEntry;
+        int order = Integer.compare(newNode.getHash(), node.getHash());
+        if (order == 0) order = this.compareKeys(newNode.getKey(), node.getKey());
+        if (order == 0) order = this.tieBreakOrder(newNode.getKey(), node.getKey());
+
+        if (order < 0) {
+            node.left = this.insertNode(node.left, newNode);
         } else {
-            Entry<K, V> entry = this.buckets[Math.abs(key.hashCode() % this.buckets.length)];
+            node.right = this.insertNode(node.right, newNode);
+        }
 
-            if (entry == null) {
-                this.buckets[Math.abs(key.hashCode() % this.buckets.length)] = newEntry;
-                return;
-            }
+        return this.balance(node);
+    }
+
+    private void treeRemove(Entry<K, V>[] table, int index, TreeEntry<K, V> node) {
+        TreeEntry<K, V> root = (TreeEntry<K, V>) table[index];
+        TreeEntry<K, V> newRoot = this.removeNode(root, node);
+
+        if (node.previous == null) {
+            table[index] = node.getNext();
+        } else {
+            node.previous.setNext(node.getNext());
+        }
+        if (node.getNext() != null) ((TreeEntry<K, V>) node.getNext()).previous = node.previous;
+
+        if (newRoot == null) {
+            table[index] = null;
+            return;
+        }
+
+        this.moveRootToFront(table, index, newRoot);
+
+        if (this.chainLength(table[index], UNTREEIFY_THRESHOLD + 1) <= UNTREEIFY_THRESHOLD) this.untreeify(table, index);
+    }
 
-            if (entry.getKey().equals(key)) {
-                entry.setValue(value);
-                return;
+    private TreeEntry<K, V> removeNode(TreeEntry<K, V> node, TreeEntry<K, V> target) {
+        if (node == target) {
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+
+            TreeEntry<K, V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
             }
 
-            while (entry.getNext() != null) {
-                if (entry.getKey().equals(key)) {
-                    entry.setValue(value);
-                    return;
-                }
-                entry = entry.getNext();
+            successor.right = this.removeMin(node.right);
+            successor.left = node.left;
+            return this.balance(successor);
+        }
+
+        int order = Integer.compare(target.getHash(), node.getHash());
+        if (order == 0) order = this.compareKeys(target.getKey(), node.getKey());
+        if (order == 0) order = this.treeContains(node.right, target) ? 1 : -1;
+
+        if (order < 0) {
+            node.left = this.removeNode(node.left, target);
+        } else {
+            node.right = this.removeNode(node.right, target);
+        }
+
+        return this.balance(node);
+    }
+
+    private TreeEntry<K, V> removeMin(TreeEntry<K, V> node) {
+        if (node.left == null) return node.right;
+
+        node.left = this.removeMin(node.left);
+
+        return this.balance(node);
+    }
+
+    private void moveRootToFront(Entry<K, V>[] table, int index, TreeEntry<K, V> root) {
+        TreeEntry<K, V> first = (TreeEntry<K, V>) table[index];
+
+        if (root == first) return;
+
+        root.previous.setNext(root.getNext());
+        if (root.getNext() != null) ((TreeEntry<K, V>) root.getNext()).previous = root.previous;
+
+        root.setNext(first);
+        root.previous = null;
+        first.previous = root;
+        table[index] = root;
+    }
+
+    private int height(TreeEntry<K, V> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private void updateHeight(TreeEntry<K, V> node) {
+        node.height = Math.max(this.height(node.left), this.height(node.right)) + 1;
+    }
+
+    private TreeEntry<K, V> rotateLeft(TreeEntry<K, V> node) {
+        TreeEntry<K, V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        this.updateHeight(node);
+        this.updateHeight(pivot);
+        return pivot;
+    }
+
+    private TreeEntry<K, V> rotateRight(TreeEntry<K, V> node) {
+        TreeEntry<K, V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        this.updateHeight(node);
+        this.updateHeight(pivot);
+        return pivot;
+    }
+
+    private TreeEntry<K, V> balance(TreeEntry<K, V> node) {
+        this.updateHeight(node);
+        int factor = this.height(node.left) - this.height(node.right);
+
+        if (factor > 1) {
+            if (this.height(node.left.left) < this.height(node.left.right)) node.left = this.rotateLeft(node.left);
+            return this.rotateRight(node);
+        }
+
+        if (factor < -1) {
+            if (this.height(node.right.right) < this.height(node.right.left)) node.right = this.rotateRight(node.right);
+            return this.rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private Entry<K, V>[][] tables() {
+        if (this.oldBuckets == null) return (Entry<K, V>[][]) new Entry<?, ?>[][]{this.buckets};
+
+        return (Entry<K, V>[][]) new Entry<?, ?>[][]{this.oldBuckets, this.buckets};
+    }
+
+    private Entry<K, V> findEntry(K key) {
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+
+        return this.find(table[this.indexFor(hash, table.length)], hash, key);
+    }
+
+    public V get(K key) {
+        this.migrate(MIGRATION_STEP);
+
+        Entry<K, V> entry = this.findEntry(key);
+
+        if (this.statistics != null) this.statistics.recordGet(entry != null);
+
+        return entry == null ? null : entry.getValue();
+    }
+
+    public void put(K key, V value) {
+        this.migrate(MIGRATION_STEP);
+        this.ensureCapacity();
+        if (this.statistics != null) this.statistics.recordPut();
+
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+        int index = this.indexFor(hash, table.length);
+        Entry<K, V> entry = this.find(table[index], hash, key);
+
+        if (entry != null) {
+            entry.setValue(value);
+            return;
+        }
+
+        this.link(table, index, hash, key, value);
+    }
+
+    public V putIfAbsent(K key, V value) {
+        this.migrate(MIGRATION_STEP);
+        this.ensureCapacity();
+        if (this.statistics != null) this.statistics.recordPut();
+
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+        int index = this.indexFor(hash, table.length);
+        Entry<K, V> entry = this.find(table[index], hash, key);
+
+        if (entry == null) {
+            this.link(table, index, hash, key, value);
+            return null;
+        }
+
+        if (entry.getValue() == null) {
+            entry.setValue(value);
+            return null;
+        }
+
+        return entry.getValue();
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        this.migrate(MIGRATION_STEP);
+        this.ensureCapacity();
+        if (this.statistics != null) this.statistics.recordPut();
+
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+        int index = this.indexFor(hash, table.length);
+        Entry<K, V> entry = this.find(table[index], hash, key);
+
+        if (entry != null && entry.getValue() != null) return entry.getValue();
+
+        int expectedModCount = this.modCount;
+        V newValue = mappingFunction.apply(key);
+        if (this.modCount != expectedModCount) throw new ConcurrentModificationException();
+
+        table = this.tableFor(hash);
+        index = this.indexFor(hash, table.length);
+        entry = this.find(table[index], hash, key);
+
+        if (newValue != null) {
+            if (entry != null) {
+                entry.setValue(newValue);
+            } else {
+                this.link(table, index, hash, key, newValue);
             }
-            entry.setNext(newEntry);
         }
 
-        this.size++;
+        return newValue;
+    }
+
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        this.migrate(MIGRATION_STEP);
+        this.ensureCapacity();
+        if (this.statistics != null) this.statistics.recordPut();
+
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+        int index = this.indexFor(hash, table.length);
+        Entry<K, V> entry = this.find(table[index], hash, key);
+
+        int expectedModCount = this.modCount;
+        V newValue = remappingFunction.apply(key, entry == null ? null : entry.getValue());
+        if (this.modCount != expectedModCount) throw new ConcurrentModificationException();
+
+        table = this.tableFor(hash);
+        index = this.indexFor(hash, table.length);
+        entry = this.find(table[index], hash, key);
+
+        if (newValue == null) {
+            if (entry != null) this.unlink(table, index, entry);
+        } else if (entry != null) {
+            entry.setValue(newValue);
+        } else {
+            this.link(table, index, hash, key, newValue);
+        }
+
+        return newValue;
+    }
+
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) throw new NullPointerException();
+
+        this.migrate(MIGRATION_STEP);
+        this.ensureCapacity();
+        if (this.statistics != null) this.statistics.recordPut();
+
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+        int index = this.indexFor(hash, table.length);
+        Entry<K, V> entry = this.find(table[index], hash, key);
+
+        if (entry == null) {
+            this.link(table, index, hash, key, value);
+            return value;
+        }
+
+        if (entry.getValue() == null) {
+            entry.setValue(value);
+            return value;
+        }
+
+        int expectedModCount = this.modCount;
+        V newValue = remappingFunction.apply(entry.getValue(), value);
+        if (this.modCount != expectedModCount) throw new ConcurrentModificationException();
+
+        table = this.tableFor(hash);
+        index = this.indexFor(hash, table.length);
+        entry = this.find(table[index], hash, key);
+
+        if (newValue == null) {
+            this.unlink(table, index, entry);
+        } else {
+            entry.setValue(newValue);
+        }
+
+        return newValue;
     }
 
     public boolean putAll(MapADT.Entry<K, V>[] entries) {
@@ -90,49 +584,37 @@ public class HashMap<K, V> implements MapADT<K, V> {
     }
 
     public void remove(K key) {
-        Entry<K, V> entry = this.buckets[Math.abs(key.hashCode() % this.buckets.length)];
-
-        if (entry == null) return;
+        this.migrate(MIGRATION_STEP);
+        if (this.statistics != null) this.statistics.recordRemove();
 
-        if (entry.getKey().equals(key)) {
-            this.buckets[Math.abs(key.hashCode() % this.buckets.length)] = entry.getNext();
-            this.size--;
-            return;
-        }
+        int hash = key.hashCode();
+        Entry<K, V>[] table = this.tableFor(hash);
+        int index = this.indexFor(hash, table.length);
+        Entry<K, V> entry = this.find(table[index], hash, key);
 
-        while (entry.getNext() != null) {
-            if (entry.getNext().getKey().equals(key)) {
-                entry.setNext(entry.getNext().getNext());
-                this.size--;
-                return;
-            }
-            entry = entry.getNext();
-        }
+        if (entry != null) this.unlink(table, index, entry);
     }
 
     public boolean containsKey(K key) {
-        Entry<K, V> entry = this.buckets[Math.abs(key.hashCode() % this.buckets.length)];
+        this.migrate(MIGRATION_STEP);
 
-        if (entry == null) return false;
+        Entry<K, V> entry = this.findEntry(key);
 
-        while (entry != null) {
-            if (entry.getKey().equals(key)) {
-                return true;
-            }
-            entry = entry.getNext();
-        }
+        if (this.statistics != null) this.statistics.recordGet(entry != null);
 
-        return false;
+        return entry != null;
     }
 
     public boolean containsValue(V value) {
-        for (Entry<K, V> entry : this.buckets) {
-            if (entry != null) {
-                while (entry != null) {
-                    if (entry.getValue().equals(value)) {
-                        return true;
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> entry : table) {
+                if (entry != null) {
+                    while (entry != null) {
+                        if (entry.getValue().equals(value)) {
+                            return true;
+                        }
+                        entry = entry.getNext();
                     }
-                    entry = entry.getNext();
                 }
             }
         }
@@ -143,11 +625,13 @@ public class HashMap<K, V> implements MapADT<K, V> {
     public UnorderedListADT<K> getKeys() {
         UnorderedListADT<K> list = new UnorderedLinkedList<>();
 
-        for (Entry<K, V> entry : this.buckets) {
-            if (entry != null) {
-                while (entry != null) {
-                    list.addToRear(entry.getKey());
-                    entry = entry.getNext();
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> entry : table) {
+                if (entry != null) {
+                    while (entry != null) {
+                        list.addToRear(entry.getKey());
+                        entry = entry.getNext();
+                    }
                 }
             }
         }
@@ -158,11 +642,13 @@ public class HashMap<K, V> implements MapADT<K, V> {
     public UnorderedListADT<V> getValues() {
         UnorderedListADT<V> list = new UnorderedLinkedList<>();
 
-        for (Entry<K, V> entry : this.buckets) {
-            if (entry != null) {
-                while (entry != null) {
-                    list.addToRear(entry.getValue());
-                    entry = entry.getNext();
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> entry : table) {
+                if (entry != null) {
+                    while (entry != null) {
+                        list.addToRear(entry.getValue());
+                        entry = entry.getNext();
+                    }
                 }
             }
         }
@@ -173,11 +659,13 @@ public class HashMap<K, V> implements MapADT<K, V> {
     public UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
         UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedLinkedList<>();
 
-        for (Entry<K, V> entry : this.buckets) {
-            if (entry != null) {
-                while (entry != null) {
-                    list.addToRear(entry);
-                    entry = entry.getNext();
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> entry : table) {
+                if (entry != null) {
+                    while (entry != null) {
+                        list.addToRear(entry);
+                        entry = entry.getNext();
+                    }
                 }
             }
         }
@@ -185,9 +673,37 @@ public class HashMap<K, V> implements MapADT<K, V> {
         return list;
     }
 
+    public Iterable<K> keys() {
+        return () -> new KeyIterator();
+    }
+
+    public Iterable<V> values() {
+        return () -> new ValueIterator();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator();
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        this.finishMigration();
+
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> entry : table) {
+                while (entry != null) {
+                    action.accept(entry.getKey(), entry.getValue());
+                    entry = entry.getNext();
+                }
+            }
+        }
+    }
+
     public void clear() {
         this.buckets = new Entry[DEFAULT_CAPACITY];
+        this.oldBuckets = null;
+        this.migrated = 0;
         this.size = 0;
+        this.modCount++;
     }
 
     public boolean isEmpty() {
@@ -198,18 +714,57 @@ public class HashMap<K, V> implements MapADT<K, V> {
         return this.size;
     }
 
+    public void enableStatistics() {
+        if (this.statistics == null) this.statistics = new MapStatistics();
+    }
+
+    public void disableStatistics() {
+        this.statistics = null;
+    }
+
+    public MapStatistics getStatistics() {
+        if (this.statistics == null) return null;
+
+        this.statistics.recordLayout(this.buckets.length, this.size);
+
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> entry : table) {
+                if (entry instanceof TreeEntry) {
+                    this.recordTreeDepths((TreeEntry<K, V>) entry, 1);
+                } else {
+                    for (int length = 1; entry != null; length++) {
+                        this.statistics.recordProbeLength(length);
+                        entry = entry.getNext();
+                    }
+                }
+            }
+        }
+
+        return this.statistics;
+    }
+
+    private void recordTreeDepths(TreeEntry<K, V> node, int depth) {
+        if (node == null) return;
+
+        this.statistics.recordProbeLength(depth);
+        this.recordTreeDepths(node.left, depth + 1);
+        this.recordTreeDepths(node.right, depth + 1);
+    }
+
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("{");
-        for (Entry<K, V> kvEntry : this.buckets) {
-            if (kvEntry != null) {
-                Entry<K, V> e = kvEntry;
-                while (e != null) {
-                    sb.append(e.getKey());
-                    sb.append("=");
-                    sb.append(e.getValue());
-                    sb.append(", ");
-                    e = e.next;
+        for (Entry<K, V>[] table : this.tables()) {
+            for (Entry<K, V> kvEntry : table) {
+                if (kvEntry != null) {
+                    Entry<K, V> e = kvEntry;
+                    while (e != null) {
+                        sb.append(e.getKey());
+                        sb.append("=");
+                        sb.append(e.getValue());
+                        sb.append(", ");
+                        e = e.next;
+                    }
                 }
             }
         }
@@ -220,23 +775,94 @@ public class HashMap<K, V> implements MapADT<K, V> {
         return sb.toString();
     }
 
+    private abstract class BucketIterator<E> implements Iterator<E> {
+        private final Entry<K, V>[][] tables;
+        private int tableIndex;
+        private int bucketIndex;
+        private Entry<K, V> nextEntry;
+
+        public BucketIterator() {
+            HashMap.this.finishMigration();
+            this.tables = HashMap.this.tables();
+            this.tableIndex = 0;
+            this.bucketIndex = 0;
+            this.nextEntry = null;
+            this.advance();
+        }
+
+        private void advance() {
+            while (this.nextEntry == null && this.tableIndex < this.tables.length) {
+                if (this.bucketIndex < this.tables[this.tableIndex].length) {
+                    this.nextEntry = this.tables[this.tableIndex][this.bucketIndex];
+                    this.bucketIndex++;
+                } else {
+                    this.tableIndex++;
+                    this.bucketIndex = 0;
+                }
+            }
+        }
+
+        protected Entry<K, V> nextEntry() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            Entry<K, V> result = this.nextEntry;
+            this.nextEntry = result.getNext();
+            this.advance();
+
+            return result;
+        }
+
+        public boolean hasNext() {
+            return this.nextEntry != null;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class KeyIterator extends BucketIterator<K> {
+        public K next() {
+            return this.nextEntry().getKey();
+        }
+    }
+
+    private class ValueIterator extends BucketIterator<V> {
+        public V next() {
+            return this.nextEntry().getValue();
+        }
+    }
+
+    private class EntryIterator extends BucketIterator<MapADT.Entry<K, V>> {
+        public MapADT.Entry<K, V> next() {
+            return this.nextEntry();
+        }
+    }
+
     private static class Entry<K, V> implements MapADT.Entry<K, V> {
+        private final int hash;
         private K key;
         private V value;
         private Entry<K, V> next;
 
-        public Entry(K key, V value) {
+        public Entry(int hash, K key, V value) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = null;
         }
 
-        public Entry(K key, V value, Entry<K, V> next) {
+        public Entry(int hash, K key, V value, Entry<K, V> next) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = next;
         }
 
+        public int getHash() {
+            return hash;
+        }
+
         public K getKey() {
             return key;
         }
@@ -261,4 +887,19 @@ public class HashMap<K, V> implements MapADT<K, V> {
             this.next = (Entry<K, V>) next;
         }
     }
+
+    private static class TreeEntry<K, V> extends Entry<K, V> {
+        private TreeEntry<K, V> previous;
+        private TreeEntry<K, V> left;
+        private TreeEntry<K, V> right;
+        private int height;
+
+        public TreeEntry(int hash, K key, V value) {
+            super(hash, key, value);
+            this.previous = null;
+            this.left = null;
+            this.right = null;
+            this.height = 1;
+        }
+    }
 }
@@ -0,0 +1,204 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+public class HashMultimap<K, V> implements MultimapADT<K, V> {
+    private static final int GROUP_CAPACITY = 4;
+    private final HashMap<K, Object> map;
+    private int size;
+
+    public HashMultimap() {
+        this.map = new HashMap<>();
+        this.size = 0;
+    }
+
+    public void put(K key, V value) {
+        if (value == null) throw new NullPointerException();
+
+        Object current = this.map.get(key);
+
+        if (current == null) {
+            this.map.put(key, value);
+        } else if (current instanceof Group) {
+            ((Group) current).add(value);
+        } else {
+            this.map.put(key, new Group(current, value));
+        }
+
+        this.size++;
+    }
+
+    public boolean remove(K key, V value) {
+        Object current = this.map.get(key);
+
+        if (current == null) return false;
+
+        if (current instanceof Group) {
+            Group group = (Group) current;
+
+            if (!group.remove(value)) return false;
+            if (group.size == 1) this.map.put(key, group.values[0]);
+        } else {
+            if (!current.equals(value)) return false;
+            this.map.remove(key);
+        }
+
+        this.size--;
+        return true;
+    }
+
+    public void removeAll(K key) {
+        this.size -= this.count(key);
+        this.map.remove(key);
+    }
+
+    public Iterable<V> get(K key) {
+        return () -> new ValueIterator(this.map.get(key));
+    }
+
+    public int count(K key) {
+        Object current = this.map.get(key);
+
+        if (current == null) return 0;
+
+        return current instanceof Group ? ((Group) current).size : 1;
+    }
+
+    public boolean containsKey(K key) {
+        return this.map.containsKey(key);
+    }
+
+    public boolean containsEntry(K key, V value) {
+        Object current = this.map.get(key);
+
+        if (current == null) return false;
+
+        return current instanceof Group ? ((Group) current).indexOf(value) >= 0 : current.equals(value);
+    }
+
+    public Iterable<K> keys() {
+        return this.map.keys();
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        this.map.forEach((key, current) -> {
+            if (current instanceof Group) {
+                Group group = (Group) current;
+
+                for (int i = 0; i < group.size; i++) {
+                    action.accept(key, (V) group.values[i]);
+                }
+            } else {
+                action.accept(key, (V) current);
+            }
+        });
+    }
+
+    public int keyCount() {
+        return this.map.size();
+    }
+
+    public void clear() {
+        this.map.clear();
+        this.size = 0;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (MapADT.Entry<K, Object> entry : this.map.entries()) {
+            sb.append(entry.getKey());
+            sb.append("=[");
+            Iterator<V> values = new ValueIterator(entry.getValue());
+            while (values.hasNext()) {
+                sb.append(values.next());
+                sb.append(", ");
+            }
+            sb.delete(sb.length() - 2, sb.length());
+            sb.append("], ");
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private static class Group {
+        private Object[] values;
+        private int size;
+
+        public Group(Object first, Object second) {
+            this.values = new Object[GROUP_CAPACITY];
+            this.values[0] = first;
+            this.values[1] = second;
+            this.size = 2;
+        }
+
+        public void add(Object value) {
+            if (this.size == this.values.length) this.values = Arrays.copyOf(this.values, this.size * 2);
+
+            this.values[this.size++] = value;
+        }
+
+        public int indexOf(Object value) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.values[i].equals(value)) return i;
+            }
+
+            return -1;
+        }
+
+        public boolean remove(Object value) {
+            int index = this.indexOf(value);
+
+            if (index < 0) return false;
+
+            System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+            this.values[--this.size] = null;
+
+            return true;
+        }
+    }
+
+    private class ValueIterator implements Iterator<V> {
+        private final Object current;
+        private int index;
+
+        public ValueIterator(Object current) {
+            this.current = current;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            if (this.current == null) return false;
+
+            return this.current instanceof Group ? this.index < ((Group) this.current).size : this.index == 0;
+        }
+
+        public V next() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Multimap");
+
+            if (this.current instanceof Group) return (V) ((Group) this.current).values[this.index++];
+
+            this.index++;
+            return (V) this.current;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
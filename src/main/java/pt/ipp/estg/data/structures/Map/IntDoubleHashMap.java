@@ -0,0 +1,254 @@
+package pt.ipp.estg.data.structures.Map;
+
+public class IntDoubleHashMap implements IntDoubleMapADT {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int FREE_KEY = 0;
+    private final double noEntryValue;
+    private int[] keys;
+    private double[] values;
+    private boolean hasFreeKey;
+    private double freeKeyValue;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    public IntDoubleHashMap() {
+        this(DEFAULT_CAPACITY, 0.0);
+    }
+
+    public IntDoubleHashMap(int initialCapacity) {
+        this(initialCapacity, 0.0);
+    }
+
+    public IntDoubleHashMap(int initialCapacity, double noEntryValue) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        this.noEntryValue = noEntryValue;
+        this.allocate(tableSizeFor((int) Math.ceil(initialCapacity / DEFAULT_LOAD_FACTOR)));
+        this.hasFreeKey = false;
+        this.size = 0;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = DEFAULT_CAPACITY;
+
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+
+        return n;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new double[capacity];
+        this.mask = capacity - 1;
+        this.threshold = Math.min((int) (capacity * DEFAULT_LOAD_FACTOR), capacity - 1);
+    }
+
+    private int findSlot(int key) {
+        int slot = hash(key) & this.mask;
+
+        while (this.keys[slot] != FREE_KEY) {
+            if (this.keys[slot] == key) return slot;
+            slot = (slot + 1) & this.mask;
+        }
+
+        return -(slot + 1);
+    }
+
+    private void expandCapacity() {
+        if (this.keys.length == MAXIMUM_CAPACITY) throw new IllegalStateException("Map is full");
+
+        int[] oldKeys = this.keys;
+        double[] oldValues = this.values;
+
+        this.allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = -(this.findSlot(oldKeys[i]) + 1);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void insertAt(int slot, int key, double value) {
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+
+        if (this.size - (this.hasFreeKey ? 1 : 0) > this.threshold) this.expandCapacity();
+    }
+
+    private void removeSlot(int slot) {
+        int next = (slot + 1) & this.mask;
+
+        while (this.keys[next] != FREE_KEY) {
+            int home = hash(this.keys[next]) & this.mask;
+
+            if (((next - home) & this.mask) >= ((next - slot) & this.mask)) {
+                this.keys[slot] = this.keys[next];
+                this.values[slot] = this.values[next];
+                slot = next;
+            }
+            next = (next + 1) & this.mask;
+        }
+
+        this.keys[slot] = FREE_KEY;
+        this.size--;
+    }
+
+    public double get(int key) {
+        return this.getOrDefault(key, this.noEntryValue);
+    }
+
+    public double getOrDefault(int key, double defaultValue) {
+        if (key == FREE_KEY) return this.hasFreeKey ? this.freeKeyValue : defaultValue;
+
+        int slot = this.findSlot(key);
+
+        return slot < 0 ? defaultValue : this.values[slot];
+    }
+
+    public void put(int key, double value) {
+        if (key == FREE_KEY) {
+            if (!this.hasFreeKey) this.size++;
+            this.hasFreeKey = true;
+            this.freeKeyValue = value;
+            return;
+        }
+
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) {
+            this.values[slot] = value;
+        } else {
+            this.insertAt(-(slot + 1), key, value);
+        }
+    }
+
+    public double addTo(int key, double increment) {
+        if (key == FREE_KEY) {
+            if (!this.hasFreeKey) {
+                this.size++;
+                this.freeKeyValue = this.noEntryValue;
+            }
+            this.hasFreeKey = true;
+            this.freeKeyValue += increment;
+            return this.freeKeyValue;
+        }
+
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) {
+            this.values[slot] += increment;
+            return this.values[slot];
+        }
+
+        double value = this.noEntryValue + increment;
+        this.insertAt(-(slot + 1), key, value);
+
+        return value;
+    }
+
+    public void remove(int key) {
+        if (key == FREE_KEY) {
+            if (this.hasFreeKey) this.size--;
+            this.hasFreeKey = false;
+            return;
+        }
+
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) this.removeSlot(slot);
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) return this.hasFreeKey;
+
+        return this.findSlot(key) >= 0;
+    }
+
+    public boolean containsValue(double value) {
+        if (this.hasFreeKey && Double.compare(this.freeKeyValue, value) == 0) return true;
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY && Double.compare(this.values[i], value) == 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public int[] getKeys() {
+        int[] result = new int[this.size];
+        int count = 0;
+
+        if (this.hasFreeKey) result[count++] = FREE_KEY;
+
+        for (int key : this.keys) {
+            if (key != FREE_KEY) {
+                result[count++] = key;
+            }
+        }
+
+        return result;
+    }
+
+    public double[] getValues() {
+        double[] result = new double[this.size];
+        int count = 0;
+
+        if (this.hasFreeKey) result[count++] = this.freeKeyValue;
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                result[count++] = this.values[i];
+            }
+        }
+
+        return result;
+    }
+
+    public void clear() {
+        this.allocate(DEFAULT_CAPACITY);
+        this.hasFreeKey = false;
+        this.size = 0;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        if (this.hasFreeKey) {
+            sb.append(FREE_KEY).append("=").append(this.freeKeyValue).append(", ");
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                sb.append(this.keys[i]).append("=").append(this.values[i]).append(", ");
+            }
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+}
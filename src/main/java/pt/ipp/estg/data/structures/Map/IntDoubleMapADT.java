@@ -0,0 +1,29 @@
+package pt.ipp.estg.data.structures.Map;
+
+public interface IntDoubleMapADT {
+    double get(int key);
+
+    double getOrDefault(int key, double defaultValue);
+
+    void put(int key, double value);
+
+    double addTo(int key, double increment);
+
+    void remove(int key);
+
+    boolean containsKey(int key);
+
+    boolean containsValue(double value);
+
+    int[] getKeys();
+
+    double[] getValues();
+
+    void clear();
+
+    boolean isEmpty();
+
+    int size();
+
+    String toString();
+}
@@ -0,0 +1,29 @@
+package pt.ipp.estg.data.structures.Map;
+
+public interface IntIntMapADT {
+    int get(int key);
+
+    int getOrDefault(int key, int defaultValue);
+
+    void put(int key, int value);
+
+    int addTo(int key, int increment);
+
+    void remove(int key);
+
+    boolean containsKey(int key);
+
+    boolean containsValue(int value);
+
+    int[] getKeys();
+
+    int[] getValues();
+
+    void clear();
+
+    boolean isEmpty();
+
+    int size();
+
+    String toString();
+}
@@ -0,0 +1,230 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+public class LongObjectHashMap<V> implements LongObjectMapADT<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final long FREE_KEY = 0L;
+    private long[] keys;
+    private V[] values;
+    private boolean hasFreeKey;
+    private V freeKeyValue;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectHashMap(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        this.allocate(tableSizeFor((int) Math.ceil(initialCapacity / DEFAULT_LOAD_FACTOR)));
+        this.hasFreeKey = false;
+        this.freeKeyValue = null;
+        this.size = 0;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = DEFAULT_CAPACITY;
+
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+
+        return n;
+    }
+
+    private static int hash(long key) {
+        int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = (V[]) (new Object[capacity]);
+        this.mask = capacity - 1;
+        this.threshold = Math.min((int) (capacity * DEFAULT_LOAD_FACTOR), capacity - 1);
+    }
+
+    private int findSlot(long key) {
+        int slot = hash(key) & this.mask;
+
+        while (this.keys[slot] != FREE_KEY) {
+            if (this.keys[slot] == key) return slot;
+            slot = (slot + 1) & this.mask;
+        }
+
+        return -(slot + 1);
+    }
+
+    private void expandCapacity() {
+        if (this.keys.length == MAXIMUM_CAPACITY) throw new IllegalStateException("Map is full");
+
+        long[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+
+        this.allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = -(this.findSlot(oldKeys[i]) + 1);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void insertAt(int slot, long key, V value) {
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+
+        if (this.size - (this.hasFreeKey ? 1 : 0) > this.threshold) this.expandCapacity();
+    }
+
+    private void removeSlot(int slot) {
+        int next = (slot + 1) & this.mask;
+
+        while (this.keys[next] != FREE_KEY) {
+            int home = hash(this.keys[next]) & this.mask;
+
+            if (((next - home) & this.mask) >= ((next - slot) & this.mask)) {
+                this.keys[slot] = this.keys[next];
+                this.values[slot] = this.values[next];
+                slot = next;
+            }
+            next = (next + 1) & this.mask;
+        }
+
+        this.keys[slot] = FREE_KEY;
+        this.values[slot] = null;
+        this.size--;
+    }
+
+    public V get(long key) {
+        return this.getOrDefault(key, null);
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == FREE_KEY) return this.hasFreeKey ? this.freeKeyValue : defaultValue;
+
+        int slot = this.findSlot(key);
+
+        return slot < 0 ? defaultValue : this.values[slot];
+    }
+
+    public void put(long key, V value) {
+        if (key == FREE_KEY) {
+            if (!this.hasFreeKey) this.size++;
+            this.hasFreeKey = true;
+            this.freeKeyValue = value;
+            return;
+        }
+
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) {
+            this.values[slot] = value;
+        } else {
+            this.insertAt(-(slot + 1), key, value);
+        }
+    }
+
+    public void remove(long key) {
+        if (key == FREE_KEY) {
+            if (this.hasFreeKey) this.size--;
+            this.hasFreeKey = false;
+            this.freeKeyValue = null;
+            return;
+        }
+
+        int slot = this.findSlot(key);
+
+        if (slot >= 0) this.removeSlot(slot);
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) return this.hasFreeKey;
+
+        return this.findSlot(key) >= 0;
+    }
+
+    public boolean containsValue(V value) {
+        if (this.hasFreeKey && this.freeKeyValue.equals(value)) return true;
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY && this.values[i].equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public long[] getKeys() {
+        long[] result = new long[this.size];
+        int count = 0;
+
+        if (this.hasFreeKey) result[count++] = FREE_KEY;
+
+        for (long key : this.keys) {
+            if (key != FREE_KEY) {
+                result[count++] = key;
+            }
+        }
+
+        return result;
+    }
+
+    public UnorderedListADT<V> getValues() {
+        UnorderedListADT<V> list = new UnorderedArrayList<>();
+
+        if (this.hasFreeKey) list.addToRear(this.freeKeyValue);
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                list.addToRear(this.values[i]);
+            }
+        }
+
+        return list;
+    }
+
+    public void clear() {
+        this.allocate(DEFAULT_CAPACITY);
+        this.hasFreeKey = false;
+        this.freeKeyValue = null;
+        this.size = 0;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        if (this.hasFreeKey) {
+            sb.append(FREE_KEY).append("=").append(this.freeKeyValue).append(", ");
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                sb.append(this.keys[i]).append("=").append(this.values[i]).append(", ");
+            }
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+public interface LongObjectMapADT<V> {
+    V get(long key);
+
+    V getOrDefault(long key, V defaultValue);
+
+    void put(long key, V value);
+
+    void remove(long key);
+
+    boolean containsKey(long key);
+
+    boolean containsValue(V value);
+
+    long[] getKeys();
+
+    UnorderedListADT<V> getValues();
+
+    void clear();
+
+    boolean isEmpty();
+
+    int size();
+
+    String toString();
+}
@@ -2,6 +2,10 @@ package pt.ipp.estg.data.structures.Map;
 
 import pt.ipp.estg.data.structures.List.UnorderedListADT;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 public interface MapADT<K, V> {
     V get(K key);
 
@@ -9,6 +13,52 @@ public interface MapADT<K, V> {
 
     boolean putAll(Entry<K, V>[] entries);
 
+    default V putIfAbsent(K key, V value) {
+        V current = this.get(key);
+
+        if (current == null) this.put(key, value);
+
+        return current;
+    }
+
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V current = this.get(key);
+
+        if (current != null) return current;
+
+        V newValue = mappingFunction.apply(key);
+        if (newValue != null) this.put(key, newValue);
+
+        return newValue;
+    }
+
+    default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V newValue = remappingFunction.apply(key, this.get(key));
+
+        if (newValue == null) {
+            this.remove(key);
+        } else {
+            this.put(key, newValue);
+        }
+
+        return newValue;
+    }
+
+    default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) throw new NullPointerException();
+
+        V current = this.get(key);
+        V newValue = current == null ? value : remappingFunction.apply(current, value);
+
+        if (newValue == null) {
+            this.remove(key);
+        } else {
+            this.put(key, newValue);
+        }
+
+        return newValue;
+    }
+
     void remove(K key);
 
     boolean containsKey(K key);
@@ -21,6 +71,18 @@ public interface MapADT<K, V> {
 
     UnorderedListADT<Entry<K, V>> getEntries();
 
+    Iterable<K> keys();
+
+    Iterable<V> values();
+
+    Iterable<Entry<K, V>> entries();
+
+    default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Entry<K, V> entry : this.entries()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
     void clear();
 
     boolean isEmpty();
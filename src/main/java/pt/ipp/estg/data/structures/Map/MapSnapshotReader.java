@@ -0,0 +1,123 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+public class MapSnapshotReader<K, V> implements Closeable {
+    private final CheckedInputStream checked;
+    private final DataInputStream in;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final RecordInput input;
+    private final DataInputStream record;
+    private final long count;
+    private final long seed;
+    private long read;
+    private byte[] bytes;
+
+    public MapSnapshotReader(InputStream in, Serializer<K> keySerializer, Serializer<V> valueSerializer) throws IOException {
+        this.checked = new CheckedInputStream(new BufferedInputStream(in, 1 << 16), new CRC32());
+        this.in = new DataInputStream(this.checked);
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.input = new RecordInput();
+        this.record = new DataInputStream(this.input);
+        this.bytes = new byte[64];
+        this.read = 0;
+
+        if (this.in.readInt() != MapSnapshotWriter.MAGIC) throw new IOException("Not a map snapshot");
+
+        int version = this.in.readInt();
+        if (version != MapSnapshotWriter.VERSION) throw new IOException("Unsupported snapshot version: " + version);
+
+        this.count = this.in.readLong();
+        this.seed = this.in.readLong();
+
+        if (this.count < 0) throw new IOException("Corrupt entry count: " + this.count);
+        if (this.count == 0) this.verifyChecksum();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean hasNext() {
+        return this.read < this.count;
+    }
+
+    private <T> T readField(Serializer<T> serializer) throws IOException {
+        int length = this.in.readInt();
+
+        if (length < 0) throw new IOException("Corrupt field length: " + length);
+        if (this.bytes.length < length) this.bytes = new byte[Math.max(length, this.bytes.length * 2)];
+
+        this.in.readFully(this.bytes, 0, length);
+        this.input.reset(this.bytes, length);
+
+        T value = serializer.read(this.record);
+
+        if (this.input.available() != 0) throw new IOException("Field length mismatch");
+
+        return value;
+    }
+
+    private void verifyChecksum() throws IOException {
+        long expected = this.checked.getChecksum().getValue();
+
+        if (this.in.readLong() != expected) throw new IOException("Snapshot checksum mismatch");
+    }
+
+    public void readEntry(MapADT<K, V> map) throws IOException {
+        if (!this.hasNext()) throw new ElementNotFoundException("Snapshot");
+
+        K key = this.readField(this.keySerializer);
+        map.put(key, this.readField(this.valueSerializer));
+        this.read++;
+
+        if (this.read == this.count) this.verifyChecksum();
+    }
+
+    public void readInto(MapADT<K, V> map) throws IOException {
+        while (this.hasNext()) {
+            this.readEntry(map);
+        }
+    }
+
+    public HashMap<K, V> read() throws IOException {
+        if (this.count > Integer.MAX_VALUE) throw new IOException("Snapshot too large for HashMap: " + this.count);
+
+        HashMap<K, V> map = new HashMap<>((int) (this.count - this.read));
+        this.readInto(map);
+
+        return map;
+    }
+
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    private static class RecordInput extends ByteArrayInputStream {
+        public RecordInput() {
+            super(new byte[0]);
+        }
+
+        public void reset(byte[] buffer, int length) {
+            this.buf = buffer;
+            this.pos = 0;
+            this.count = length;
+            this.mark = 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package pt.ipp.estg.data.structures.Map;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+public class MapSnapshotWriter<K, V> implements Closeable {
+    static final int MAGIC = 0x4D534E50;
+    static final int VERSION = 1;
+    private final CheckedOutputStream checked;
+    private final DataOutputStream out;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final RecordBuffer buffer;
+    private final DataOutputStream record;
+    private long count;
+    private long written;
+    private boolean headerWritten;
+
+    public MapSnapshotWriter(OutputStream out, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        this.checked = new CheckedOutputStream(new BufferedOutputStream(out, 1 << 16), new CRC32());
+        this.out = new DataOutputStream(this.checked);
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.buffer = new RecordBuffer();
+        this.record = new DataOutputStream(this.buffer);
+        this.count = 0;
+        this.written = 0;
+        this.headerWritten = false;
+    }
+
+    public void writeHeader(long count, long seed) throws IOException {
+        if (this.headerWritten) throw new IllegalStateException("Header already written");
+        if (count < 0) throw new IllegalArgumentException("Illegal entry count: " + count);
+
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+        this.out.writeLong(count);
+        this.out.writeLong(seed);
+        this.count = count;
+        this.headerWritten = true;
+    }
+
+    private <T> void writeField(Serializer<T> serializer, T value) throws IOException {
+        this.buffer.reset();
+        serializer.write(value, this.record);
+
+        this.out.writeInt(this.buffer.size());
+        this.out.write(this.buffer.array(), 0, this.buffer.size());
+    }
+
+    public void writeEntry(K key, V value) throws IOException {
+        if (!this.headerWritten) throw new IllegalStateException("Header not written");
+        if (this.written == this.count) throw new IllegalStateException("More entries than declared: " + this.count);
+
+        this.writeField(this.keySerializer, key);
+        this.writeField(this.valueSerializer, value);
+        this.written++;
+    }
+
+    public void write(MapADT<K, V> map) throws IOException {
+        this.writeHeader(map.size(), 0);
+
+        for (MapADT.Entry<K, V> entry : map.entries()) {
+            this.writeEntry(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public void close() throws IOException {
+        try {
+            if (this.headerWritten && this.written != this.count) {
+                throw new IOException("Wrote " + this.written + " entries, header declared " + this.count);
+            }
+
+            if (this.headerWritten) this.out.writeLong(this.checked.getChecksum().getValue());
+        } finally {
+            this.out.close();
+        }
+    }
+
+    private static class RecordBuffer extends ByteArrayOutputStream {
+        public byte[] array() {
+            return this.buf;
+        }
+    }
+}
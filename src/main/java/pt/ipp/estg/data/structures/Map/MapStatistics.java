@@ -0,0 +1,161 @@
+package pt.ipp.estg.data.structures.Map;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class MapStatistics {
+    private long getCount;
+    private long hitCount;
+    private long putCount;
+    private long removeCount;
+    private long resizeCount;
+    private long migrationCount;
+    private long resizeNanos;
+    private long maxResizeNanos;
+    private long[] probeLengths;
+    private int capacity;
+    private int size;
+
+    public MapStatistics() {
+        this.reset();
+        this.probeLengths = new long[1];
+        this.capacity = 0;
+        this.size = 0;
+    }
+
+    void recordGet(boolean hit) {
+        this.getCount++;
+        if (hit) this.hitCount++;
+    }
+
+    void recordPut() {
+        this.putCount++;
+    }
+
+    void recordRemove() {
+        this.removeCount++;
+    }
+
+    void recordResize(long nanos) {
+        this.resizeCount++;
+        this.resizeNanos += nanos;
+        this.maxResizeNanos = Math.max(this.maxResizeNanos, nanos);
+    }
+
+    void recordMigration(long nanos) {
+        this.migrationCount++;
+        this.resizeNanos += nanos;
+        this.maxResizeNanos = Math.max(this.maxResizeNanos, nanos);
+    }
+
+    void recordLayout(int capacity, int size) {
+        this.capacity = capacity;
+        this.size = size;
+        Arrays.fill(this.probeLengths, 0);
+    }
+
+    void recordProbeLength(int length) {
+        if (length >= this.probeLengths.length) {
+            this.probeLengths = Arrays.copyOf(this.probeLengths, Math.max(length + 1, this.probeLengths.length * 2));
+        }
+
+        this.probeLengths[length]++;
+    }
+
+    public long getGetCount() {
+        return getCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return this.getCount - this.hitCount;
+    }
+
+    public long getPutCount() {
+        return putCount;
+    }
+
+    public long getRemoveCount() {
+        return removeCount;
+    }
+
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    public long getMigrationCount() {
+        return migrationCount;
+    }
+
+    public long getResizeTime(TimeUnit unit) {
+        return unit.convert(this.resizeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxResizeTime(TimeUnit unit) {
+        return unit.convert(this.maxResizeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long[] getProbeLengthHistogram() {
+        return Arrays.copyOf(this.probeLengths, this.getMaxProbeLength() + 1);
+    }
+
+    public int getMaxProbeLength() {
+        int max = this.probeLengths.length - 1;
+
+        while (max > 0 && this.probeLengths[max] == 0) {
+            max--;
+        }
+
+        return max;
+    }
+
+    public double getAverageProbeLength() {
+        long total = 0;
+        long entries = 0;
+
+        for (int i = 0; i < this.probeLengths.length; i++) {
+            total += i * this.probeLengths[i];
+            entries += this.probeLengths[i];
+        }
+
+        return entries == 0 ? 0.0 : (1.0 * total) / entries;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getLoadFactor() {
+        return this.capacity == 0 ? 0.0 : (1.0 * this.size) / this.capacity;
+    }
+
+    public double hitRate() {
+        return this.getCount == 0 ? 1.0 : (1.0 * this.hitCount) / this.getCount;
+    }
+
+    public void reset() {
+        this.getCount = 0;
+        this.hitCount = 0;
+        this.putCount = 0;
+        this.removeCount = 0;
+        this.resizeCount = 0;
+        this.migrationCount = 0;
+        this.resizeNanos = 0;
+        this.maxResizeNanos = 0;
+    }
+
+    public String toString() {
+        return "gets=" + this.getCount + ", hits=" + this.hitCount + ", puts=" + this.putCount + ", removes=" + this.removeCount
+                + ", resizes=" + this.resizeCount + ", migrations=" + this.migrationCount + ", resizeTimeMs=" + this.getResizeTime(TimeUnit.MILLISECONDS)
+                + ", capacity=" + this.capacity + ", size=" + this.size + ", loadFactor=" + this.getLoadFactor()
+                + ", maxProbeLength=" + this.getMaxProbeLength() + ", averageProbeLength=" + this.getAverageProbeLength()
+                + ", probeLengths=" + Arrays.toString(this.getProbeLengthHistogram());
+    }
+}
@@ -0,0 +1,535 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+import pt.ipp.estg.data.structures.List.UnorderedArrayList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+public class MappedHashMap implements MapADT<byte[], byte[]>, Closeable {
+    private static final int MAGIC = 0x4D484D31;
+    private static final int VERSION = 1;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long INDEX_HEADER = 32;
+    private static final long DATA_HEADER = 8;
+    private static final long SLOT_SIZE = 16;
+    private static final long RECORD_HEADER = 8;
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+    private final Path indexFile;
+    private final Path dataFile;
+    private MappedRegion index;
+    private MappedRegion data;
+    private int capacity;
+    private int mask;
+    private int size;
+    private int tombstones;
+    private long dataEnd;
+
+    public MappedHashMap(String path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    public MappedHashMap(String path, int initialCapacity) throws IOException {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        this.indexFile = Paths.get(path + ".index");
+        this.dataFile = Paths.get(path + ".data");
+
+        boolean exists = Files.exists(this.indexFile) && Files.size(this.indexFile) >= INDEX_HEADER;
+
+        if (exists) {
+            this.open();
+        } else {
+            this.create(tableSizeFor((int) Math.ceil(initialCapacity / LOAD_FACTOR)));
+        }
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = DEFAULT_CAPACITY;
+
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+
+        return n;
+    }
+
+    private static int hash(byte[] key) {
+        int h = 0x811C9DC5;
+
+        for (byte b : key) {
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        }
+
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    private static long recordSize(int keyLength, int valueLength) {
+        return (RECORD_HEADER + keyLength + valueLength + 7) & -8L;
+    }
+
+    private static long slotPosition(int slot) {
+        return INDEX_HEADER + slot * SLOT_SIZE;
+    }
+
+    private void open() throws IOException {
+        this.index = new MappedRegion(this.indexFile, INDEX_HEADER);
+
+        if (this.index.getInt(0) != MAGIC) throw new IOException("Not a mapped map index: " + this.indexFile);
+        if (this.index.getInt(4) != VERSION) throw new IOException("Unsupported index version: " + this.index.getInt(4));
+
+        this.capacity = this.index.getInt(8);
+        this.mask = this.capacity - 1;
+        this.size = this.index.getInt(12);
+        this.tombstones = this.index.getInt(16);
+        this.dataEnd = this.index.getLong(24);
+        this.data = new MappedRegion(this.dataFile, this.dataEnd);
+
+        if (this.data.getInt(0) != MAGIC) throw new IOException("Not a mapped map data file: " + this.dataFile);
+    }
+
+    private void create(int capacity) throws IOException {
+        Files.deleteIfExists(this.indexFile);
+        Files.deleteIfExists(this.dataFile);
+
+        this.index = new MappedRegion(this.indexFile, slotPosition(capacity));
+        this.data = new MappedRegion(this.dataFile, DATA_HEADER);
+        this.data.putInt(0, MAGIC);
+        this.data.putInt(4, VERSION);
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.size = 0;
+        this.tombstones = 0;
+        this.dataEnd = DATA_HEADER;
+        this.writeHeader(this.index);
+    }
+
+    private void writeHeader(MappedRegion region) {
+        region.putInt(0, MAGIC);
+        region.putInt(4, VERSION);
+        region.putInt(8, this.capacity);
+        region.putInt(12, this.size);
+        region.putInt(16, this.tombstones);
+        region.putLong(24, this.dataEnd);
+    }
+
+    private void checkOpen() {
+        if (this.index == null) throw new IllegalStateException("Map is closed");
+    }
+
+    private long offsetAt(int slot) {
+        return this.index.getLong(slotPosition(slot));
+    }
+
+    private int hashAt(int slot) {
+        return this.index.getInt(slotPosition(slot) + 8);
+    }
+
+    private void setSlot(int slot, long offset, int hash) {
+        this.index.putLong(slotPosition(slot), offset);
+        this.index.putInt(slotPosition(slot) + 8, hash);
+    }
+
+    private boolean keyEquals(long offset, byte[] key) {
+        return this.data.getInt(offset) == key.length && this.data.contentEquals(offset + RECORD_HEADER, key);
+    }
+
+    private byte[] readKey(long offset) {
+        byte[] key = new byte[this.data.getInt(offset)];
+        this.data.get(offset + RECORD_HEADER, key);
+        return key;
+    }
+
+    private byte[] readValue(long offset) {
+        int keyLength = this.data.getInt(offset);
+        byte[] value = new byte[this.data.getInt(offset + 4)];
+        this.data.get(offset + RECORD_HEADER + keyLength, value);
+        return value;
+    }
+
+    private int findSlot(byte[] key, int hash) {
+        int slot = hash & this.mask;
+        int free = -1;
+
+        while (true) {
+            long offset = this.offsetAt(slot);
+
+            if (offset == EMPTY) return -((free >= 0 ? free : slot) + 1);
+
+            if (offset == TOMBSTONE) {
+                if (free < 0) free = slot;
+            } else if (this.hashAt(slot) == hash && this.keyEquals(offset, key)) {
+                return slot;
+            }
+
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    private long append(byte[] key, byte[] value) throws IOException {
+        long offset = this.dataEnd;
+        long end = offset + recordSize(key.length, value.length);
+
+        this.data.ensureCapacity(end);
+        this.data.putInt(offset, key.length);
+        this.data.putInt(offset + 4, value.length);
+        this.data.put(offset + RECORD_HEADER, key);
+        this.data.put(offset + RECORD_HEADER + key.length, value);
+        this.dataEnd = end;
+        this.index.putLong(24, this.dataEnd);
+
+        return offset;
+    }
+
+    private void rebuildIndex(int newCapacity) throws IOException {
+        Path temporary = Paths.get(this.indexFile + ".tmp");
+        Files.deleteIfExists(temporary);
+
+        MappedRegion rebuilt = new MappedRegion(temporary, slotPosition(newCapacity));
+        int newMask = newCapacity - 1;
+
+        for (int i = 0; i < this.capacity; i++) {
+            long offset = this.offsetAt(i);
+
+            if (offset != EMPTY && offset != TOMBSTONE) {
+                int hash = this.hashAt(i);
+                int slot = hash & newMask;
+
+                while (rebuilt.getLong(slotPosition(slot)) != EMPTY) {
+                    slot = (slot + 1) & newMask;
+                }
+
+                rebuilt.putLong(slotPosition(slot), offset);
+                rebuilt.putInt(slotPosition(slot) + 8, hash);
+            }
+        }
+
+        this.capacity = newCapacity;
+        this.mask = newMask;
+        this.tombstones = 0;
+        this.writeHeader(rebuilt);
+
+        rebuilt.close();
+        this.index.close();
+        Files.move(temporary, this.indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.index = new MappedRegion(this.indexFile, slotPosition(newCapacity));
+    }
+
+    private void updateCounts() throws IOException {
+        this.index.putInt(12, this.size);
+        this.index.putInt(16, this.tombstones);
+
+        if (this.size + this.tombstones > this.capacity * LOAD_FACTOR) {
+            if (this.size * 2 > this.capacity * LOAD_FACTOR && this.capacity < MAXIMUM_CAPACITY) {
+                this.rebuildIndex(this.capacity * 2);
+            } else {
+                this.rebuildIndex(this.capacity);
+            }
+        }
+    }
+
+    public byte[] get(byte[] key) {
+        this.checkOpen();
+
+        int slot = this.findSlot(key, hash(key));
+
+        return slot < 0 ? null : this.readValue(this.offsetAt(slot));
+    }
+
+    public void put(byte[] key, byte[] value) {
+        if (key == null || value == null) throw new NullPointerException();
+        this.checkOpen();
+
+        try {
+            int hash = hash(key);
+            int slot = this.findSlot(key, hash);
+
+            if (slot >= 0) {
+                long offset = this.offsetAt(slot);
+
+                if (this.data.getInt(offset + 4) == value.length) {
+                    this.data.put(offset + RECORD_HEADER + key.length, value);
+                } else {
+                    this.setSlot(slot, this.append(key, value), hash);
+                }
+                return;
+            }
+
+            slot = -(slot + 1);
+            if (this.offsetAt(slot) == TOMBSTONE) this.tombstones--;
+
+            this.setSlot(slot, this.append(key, value), hash);
+            this.size++;
+            this.updateCounts();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean putAll(MapADT.Entry<byte[], byte[]>[] entries) {
+        for (MapADT.Entry<byte[], byte[]> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(byte[] key) {
+        this.checkOpen();
+
+        int slot = this.findSlot(key, hash(key));
+
+        if (slot < 0) return;
+
+        this.setSlot(slot, TOMBSTONE, 0);
+        this.size--;
+        this.tombstones++;
+
+        try {
+            this.updateCounts();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean containsKey(byte[] key) {
+        this.checkOpen();
+
+        return this.findSlot(key, hash(key)) >= 0;
+    }
+
+    public boolean containsValue(byte[] value) {
+        this.checkOpen();
+
+        for (int i = 0; i < this.capacity; i++) {
+            long offset = this.offsetAt(i);
+
+            if (offset != EMPTY && offset != TOMBSTONE && this.data.getInt(offset + 4) == value.length
+                    && this.data.contentEquals(offset + RECORD_HEADER + this.data.getInt(offset), value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public UnorderedListADT<byte[]> getKeys() {
+        UnorderedListADT<byte[]> list = new UnorderedArrayList<>();
+
+        for (byte[] key : this.keys()) {
+            list.addToRear(key);
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<byte[]> getValues() {
+        UnorderedListADT<byte[]> list = new UnorderedArrayList<>();
+
+        for (byte[] value : this.values()) {
+            list.addToRear(value);
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<MapADT.Entry<byte[], byte[]>> getEntries() {
+        UnorderedListADT<MapADT.Entry<byte[], byte[]>> list = new UnorderedArrayList<>();
+
+        for (MapADT.Entry<byte[], byte[]> entry : this.entries()) {
+            list.addToRear(entry);
+        }
+
+        return list;
+    }
+
+    public Iterable<byte[]> keys() {
+        return () -> new KeyIterator();
+    }
+
+    public Iterable<byte[]> values() {
+        return () -> new ValueIterator();
+    }
+
+    public Iterable<MapADT.Entry<byte[], byte[]>> entries() {
+        return () -> new EntryIterator();
+    }
+
+    public void forEach(BiConsumer<? super byte[], ? super byte[]> action) {
+        this.checkOpen();
+
+        for (int i = 0; i < this.capacity; i++) {
+            long offset = this.offsetAt(i);
+
+            if (offset != EMPTY && offset != TOMBSTONE) {
+                action.accept(this.readKey(offset), this.readValue(offset));
+            }
+        }
+    }
+
+    public void flush() {
+        this.checkOpen();
+
+        this.index.force();
+        this.data.force();
+    }
+
+    public void close() throws IOException {
+        if (this.index == null) return;
+
+        this.index.close();
+        this.data.close();
+        this.index = null;
+        this.data = null;
+    }
+
+    public long dataSize() {
+        return this.dataEnd;
+    }
+
+    public void clear() {
+        this.checkOpen();
+
+        this.index.clear(INDEX_HEADER, slotPosition(this.capacity));
+        this.size = 0;
+        this.tombstones = 0;
+        this.dataEnd = DATA_HEADER;
+        this.writeHeader(this.index);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (MapADT.Entry<byte[], byte[]> entry : this.entries()) {
+            sb.append(Arrays.toString(entry.getKey()));
+            sb.append("=");
+            sb.append(Arrays.toString(entry.getValue()));
+            sb.append(", ");
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        private int slot;
+
+        public SlotIterator() {
+            MappedHashMap.this.checkOpen();
+            this.slot = 0;
+            this.advance();
+        }
+
+        private void advance() {
+            while (this.slot < MappedHashMap.this.capacity) {
+                long offset = MappedHashMap.this.offsetAt(this.slot);
+
+                if (offset != EMPTY && offset != TOMBSTONE) return;
+                this.slot++;
+            }
+        }
+
+        protected long nextOffset() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            long result = MappedHashMap.this.offsetAt(this.slot);
+            this.slot++;
+            this.advance();
+
+            return result;
+        }
+
+        public boolean hasNext() {
+            return this.slot < MappedHashMap.this.capacity;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class KeyIterator extends SlotIterator<byte[]> {
+        public byte[] next() {
+            return MappedHashMap.this.readKey(this.nextOffset());
+        }
+    }
+
+    private class ValueIterator extends SlotIterator<byte[]> {
+        public byte[] next() {
+            return MappedHashMap.this.readValue(this.nextOffset());
+        }
+    }
+
+    private class EntryIterator extends SlotIterator<MapADT.Entry<byte[], byte[]>> {
+        public MapADT.Entry<byte[], byte[]> next() {
+            long offset = this.nextOffset();
+            return new Entry(MappedHashMap.this.readKey(offset), MappedHashMap.this.readValue(offset));
+        }
+    }
+
+    private class Entry implements MapADT.Entry<byte[], byte[]> {
+        private final byte[] key;
+        private byte[] value;
+        private MapADT.Entry<byte[], byte[]> next;
+
+        public Entry(byte[] key, byte[] value) {
+            this.key = key;
+            this.value = value;
+            this.next = null;
+        }
+
+        public byte[] getKey() {
+            return key;
+        }
+
+        public void setKey(byte[] key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public byte[] getValue() {
+            return value;
+        }
+
+        public void setValue(byte[] value) {
+            this.value = value;
+            MappedHashMap.this.put(this.key, value);
+        }
+
+        public MapADT.Entry<byte[], byte[]> getNext() {
+            return next;
+        }
+
+        public void setNext(MapADT.Entry<byte[], byte[]> next) {
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package pt.ipp.estg.data.structures.Map;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+class MappedRegion implements Closeable {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final long PAGE_SIZE = 4096;
+    private final FileChannel channel;
+    private MappedByteBuffer[] segments;
+    private long capacity;
+
+    MappedRegion(Path file, long minimumCapacity) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.segments = new MappedByteBuffer[0];
+        this.capacity = 0;
+        this.map(Math.max(this.channel.size(), roundToPage(minimumCapacity)));
+    }
+
+    private static long roundToPage(long length) {
+        return (length + PAGE_SIZE - 1) & -PAGE_SIZE;
+    }
+
+    private void map(long newCapacity) throws IOException {
+        int count = (int) ((newCapacity + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+
+        if (count > this.segments.length) this.segments = Arrays.copyOf(this.segments, count);
+
+        for (int i = 0; i < count; i++) {
+            long size = Math.min(SEGMENT_SIZE, newCapacity - ((long) i << SEGMENT_SHIFT));
+
+            if (this.segments[i] == null || this.segments[i].capacity() < size) {
+                this.segments[i] = this.channel.map(FileChannel.MapMode.READ_WRITE, (long) i << SEGMENT_SHIFT, size);
+            }
+        }
+
+        this.capacity = newCapacity;
+    }
+
+    long capacity() {
+        return this.capacity;
+    }
+
+    void ensureCapacity(long required) throws IOException {
+        if (required <= this.capacity) return;
+
+        long grown = Math.min(this.capacity * 2, this.capacity + SEGMENT_SIZE);
+
+        this.map(roundToPage(Math.max(required, grown)));
+    }
+
+    int getInt(long position) {
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)].getInt((int) (position & SEGMENT_MASK));
+    }
+
+    void putInt(long position, int value) {
+        this.segments[(int) (position >>> SEGMENT_SHIFT)].putInt((int) (position & SEGMENT_MASK), value);
+    }
+
+    long getLong(long position) {
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)].getLong((int) (position & SEGMENT_MASK));
+    }
+
+    void putLong(long position, long value) {
+        this.segments[(int) (position >>> SEGMENT_SHIFT)].putLong((int) (position & SEGMENT_MASK), value);
+    }
+
+    void get(long position, byte[] destination) {
+        int done = 0;
+
+        while (done < destination.length) {
+            MappedByteBuffer segment = this.segments[(int) (position >>> SEGMENT_SHIFT)];
+            int offset = (int) (position & SEGMENT_MASK);
+            int length = (int) Math.min(destination.length - done, SEGMENT_SIZE - offset);
+
+            segment.get(offset, destination, done, length);
+            done += length;
+            position += length;
+        }
+    }
+
+    void put(long position, byte[] source) {
+        int done = 0;
+
+        while (done < source.length) {
+            MappedByteBuffer segment = this.segments[(int) (position >>> SEGMENT_SHIFT)];
+            int offset = (int) (position & SEGMENT_MASK);
+            int length = (int) Math.min(source.length - done, SEGMENT_SIZE - offset);
+
+            segment.put(offset, source, done, length);
+            done += length;
+            position += length;
+        }
+    }
+
+    boolean contentEquals(long position, byte[] data) {
+        for (int i = 0; i < data.length; i++, position++) {
+            if (this.segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK)) != data[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    void clear(long from, long to) {
+        while (from < to) {
+            MappedByteBuffer segment = this.segments[(int) (from >>> SEGMENT_SHIFT)];
+            int offset = (int) (from & SEGMENT_MASK);
+            int length = (int) Math.min(to - from, SEGMENT_SIZE - offset);
+
+            for (int i = offset; i < offset + length; i++) {
+                segment.put(i, (byte) 0);
+            }
+            from += length;
+        }
+    }
+
+    void force() {
+        for (MappedByteBuffer segment : this.segments) {
+            segment.force();
+        }
+    }
+
+    public void close() throws IOException {
+        this.force();
+        this.channel.close();
+    }
+}
@@ -0,0 +1,33 @@
+package pt.ipp.estg.data.structures.Map;
+
+import java.util.function.BiConsumer;
+
+public interface MultimapADT<K, V> {
+    void put(K key, V value);
+
+    boolean remove(K key, V value);
+
+    void removeAll(K key);
+
+    Iterable<V> get(K key);
+
+    int count(K key);
+
+    boolean containsKey(K key);
+
+    boolean containsEntry(K key, V value);
+
+    Iterable<K> keys();
+
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    int keyCount();
+
+    void clear();
+
+    boolean isEmpty();
+
+    int size();
+
+    String toString();
+}
@@ -0,0 +1,547 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+public class PersistentHashMap<K, V> implements PersistentMapADT<K, V> {
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+    private static final Object NOT_FOUND = new Object();
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Node createNode(Object edit, int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+        int hash1 = key1.hashCode();
+
+        if (hash1 == hash2) return new CollisionNode(edit, hash1, new Object[]{key1, value1, key2, value2}, 2);
+
+        boolean[] added = new boolean[1];
+        return BitmapIndexedNode.EMPTY
+                .assoc(edit, shift, hash1, key1, value1, added)
+                .assoc(edit, shift, hash2, key2, value2, added);
+    }
+
+    private static Object[] copyWith(Object[] array, int index, Object value) {
+        Object[] copy = array.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    public V get(K key) {
+        if (this.root == null) return null;
+
+        Object result = this.root.find(0, key.hashCode(), key);
+
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    public boolean containsKey(K key) {
+        return this.root != null && this.root.find(0, key.hashCode(), key) != NOT_FOUND;
+    }
+
+    public PersistentHashMap<K, V> put(K key, V value) {
+        boolean[] added = new boolean[1];
+        Node start = this.root == null ? BitmapIndexedNode.EMPTY : this.root;
+        Node newRoot = start.assoc(null, 0, key.hashCode(), key, value, added);
+
+        if (newRoot == this.root) return this;
+
+        return new PersistentHashMap<>(newRoot, added[0] ? this.size + 1 : this.size);
+    }
+
+    public PersistentHashMap<K, V> remove(K key) {
+        if (this.root == null) return this;
+
+        boolean[] removed = new boolean[1];
+        Node newRoot = this.root.without(null, 0, key.hashCode(), key, removed);
+
+        if (!removed[0]) return this;
+        if (newRoot == null) return empty();
+
+        return new PersistentHashMap<>(newRoot, this.size - 1);
+    }
+
+    public TransientHashMap<K, V> asTransient() {
+        return new TransientHashMap<>(this.root, this.size);
+    }
+
+    public Iterable<K> keys() {
+        return () -> new KeyIterator<>(this.root);
+    }
+
+    public Iterable<V> values() {
+        return () -> new ValueIterator<>(this.root);
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (this.root != null) this.root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        this.forEach((key, value) -> sb.append(key).append("=").append(value).append(", "));
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    public static class TransientHashMap<K, V> {
+        private Object edit;
+        private Node root;
+        private int size;
+
+        private TransientHashMap(Node root, int size) {
+            this.edit = new Object();
+            this.root = root;
+            this.size = size;
+        }
+
+        private void ensureEditable() {
+            if (this.edit == null) throw new IllegalStateException("Transient used after persistent() call");
+        }
+
+        public V get(K key) {
+            this.ensureEditable();
+
+            if (this.root == null) return null;
+
+            Object result = this.root.find(0, key.hashCode(), key);
+
+            return result == NOT_FOUND ? null : (V) result;
+        }
+
+        public boolean containsKey(K key) {
+            this.ensureEditable();
+
+            return this.root != null && this.root.find(0, key.hashCode(), key) != NOT_FOUND;
+        }
+
+        public TransientHashMap<K, V> put(K key, V value) {
+            this.ensureEditable();
+
+            boolean[] added = new boolean[1];
+            Node start = this.root == null ? BitmapIndexedNode.EMPTY : this.root;
+            this.root = start.assoc(this.edit, 0, key.hashCode(), key, value, added);
+
+            if (added[0]) this.size++;
+
+            return this;
+        }
+
+        public TransientHashMap<K, V> remove(K key) {
+            this.ensureEditable();
+
+            if (this.root == null) return this;
+
+            boolean[] removed = new boolean[1];
+            this.root = this.root.without(this.edit, 0, key.hashCode(), key, removed);
+
+            if (removed[0]) this.size--;
+
+            return this;
+        }
+
+        public int size() {
+            this.ensureEditable();
+
+            return this.size;
+        }
+
+        public PersistentHashMap<K, V> persistent() {
+            this.ensureEditable();
+            this.edit = null;
+
+            return this.size == 0 ? empty() : new PersistentHashMap<>(this.root, this.size);
+        }
+    }
+
+    private abstract static class Node {
+        protected final Object edit;
+        protected Object[] array;
+
+        public Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        public abstract int pairCount();
+
+        public abstract Object find(int shift, int hash, Object key);
+
+        public abstract Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+        public abstract Node without(Object edit, int shift, int hash, Object key, boolean[] removed);
+
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < this.pairCount(); i++) {
+                Object key = this.array[2 * i];
+                Object value = this.array[2 * i + 1];
+
+                if (key == null) {
+                    ((Node) value).forEach(action);
+                } else {
+                    action.accept(key, value);
+                }
+            }
+        }
+
+        protected boolean isEditable(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+    }
+
+    private static class BitmapIndexedNode extends Node {
+        private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(null, 0, new Object[0]);
+        private int bitmap;
+
+        public BitmapIndexedNode(Object edit, int bitmap, Object[] array) {
+            super(edit, array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        public int pairCount() {
+            return Integer.bitCount(this.bitmap);
+        }
+
+        private BitmapIndexedNode ensureEditable(Object edit) {
+            if (this.isEditable(edit)) return this;
+
+            int n = this.pairCount();
+            Object[] copy = new Object[2 * (n + 1)];
+            System.arraycopy(this.array, 0, copy, 0, 2 * n);
+
+            return new BitmapIndexedNode(edit, this.bitmap, copy);
+        }
+
+        private BitmapIndexedNode editAndSet(Object edit, int index, Object value) {
+            if (edit == null) return new BitmapIndexedNode(null, this.bitmap, copyWith(this.array, index, value));
+
+            BitmapIndexedNode editable = this.ensureEditable(edit);
+            editable.array[index] = value;
+            return editable;
+        }
+
+        public Object find(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((this.bitmap & bit) == 0) return NOT_FOUND;
+
+            int index = this.index(bit);
+            Object keyOrNull = this.array[2 * index];
+            Object valueOrNode = this.array[2 * index + 1];
+
+            if (keyOrNull == null) return ((Node) valueOrNode).find(shift + BITS, hash, key);
+            if (key.equals(keyOrNull)) return valueOrNode;
+
+            return NOT_FOUND;
+        }
+
+        public Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bitFor(hash, shift);
+            int index = this.index(bit);
+
+            if ((this.bitmap & bit) != 0) {
+                Object keyOrNull = this.array[2 * index];
+                Object valueOrNode = this.array[2 * index + 1];
+
+                if (keyOrNull == null) {
+                    Node child = ((Node) valueOrNode).assoc(edit, shift + BITS, hash, key, value, added);
+                    if (child == valueOrNode) return this;
+                    return this.editAndSet(edit, 2 * index + 1, child);
+                }
+
+                if (key.equals(keyOrNull)) {
+                    if (value == valueOrNode) return this;
+                    return this.editAndSet(edit, 2 * index + 1, value);
+                }
+
+                added[0] = true;
+                Node child = createNode(edit, shift + BITS, keyOrNull, valueOrNode, hash, key, value);
+
+                if (edit == null) {
+                    Object[] copy = this.array.clone();
+                    copy[2 * index] = null;
+                    copy[2 * index + 1] = child;
+                    return new BitmapIndexedNode(null, this.bitmap, copy);
+                }
+
+                BitmapIndexedNode editable = this.ensureEditable(edit);
+                editable.array[2 * index] = null;
+                editable.array[2 * index + 1] = child;
+                return editable;
+            }
+
+            added[0] = true;
+            int n = this.pairCount();
+
+            if (this.isEditable(edit) && 2 * (n + 1) <= this.array.length) {
+                System.arraycopy(this.array, 2 * index, this.array, 2 * (index + 1), 2 * (n - index));
+                this.array[2 * index] = key;
+                this.array[2 * index + 1] = value;
+                this.bitmap |= bit;
+                return this;
+            }
+
+            Object[] newArray = new Object[edit == null ? 2 * (n + 1) : 2 * (n + 2)];
+            System.arraycopy(this.array, 0, newArray, 0, 2 * index);
+            newArray[2 * index] = key;
+            newArray[2 * index + 1] = value;
+            System.arraycopy(this.array, 2 * index, newArray, 2 * (index + 1), 2 * (n - index));
+
+            if (this.isEditable(edit)) {
+                this.array = newArray;
+                this.bitmap |= bit;
+                return this;
+            }
+
+            return new BitmapIndexedNode(edit, this.bitmap | bit, newArray);
+        }
+
+        public Node without(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            int bit = bitFor(hash, shift);
+            if ((this.bitmap & bit) == 0) return this;
+
+            int index = this.index(bit);
+            Object keyOrNull = this.array[2 * index];
+            Object valueOrNode = this.array[2 * index + 1];
+
+            if (keyOrNull == null) {
+                Node child = ((Node) valueOrNode).without(edit, shift + BITS, hash, key, removed);
+                if (!removed[0]) return this;
+                if (child != null) return this.editAndSet(edit, 2 * index + 1, child);
+            } else if (key.equals(keyOrNull)) {
+                removed[0] = true;
+            } else {
+                return this;
+            }
+
+            if (this.bitmap == bit) return null;
+
+            return this.removePair(edit, bit, index);
+        }
+
+        private Node removePair(Object edit, int bit, int index) {
+            int n = this.pairCount();
+
+            if (this.isEditable(edit)) {
+                System.arraycopy(this.array, 2 * (index + 1), this.array, 2 * index, 2 * (n - index - 1));
+                this.array[2 * (n - 1)] = null;
+                this.array[2 * (n - 1) + 1] = null;
+                this.bitmap ^= bit;
+                return this;
+            }
+
+            Object[] newArray = new Object[2 * (n - 1)];
+            System.arraycopy(this.array, 0, newArray, 0, 2 * index);
+            System.arraycopy(this.array, 2 * (index + 1), newArray, 2 * index, 2 * (n - index - 1));
+
+            return new BitmapIndexedNode(edit, this.bitmap ^ bit, newArray);
+        }
+    }
+
+    private static class CollisionNode extends Node {
+        private final int hash;
+        private int count;
+
+        public CollisionNode(Object edit, int hash, Object[] array, int count) {
+            super(edit, array);
+            this.hash = hash;
+            this.count = count;
+        }
+
+        public int pairCount() {
+            return this.count;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < this.count; i++) {
+                if (key.equals(this.array[2 * i])) return i;
+            }
+
+            return -1;
+        }
+
+        public Object find(int shift, int hash, Object key) {
+            if (hash != this.hash) return NOT_FOUND;
+
+            int index = this.indexOf(key);
+
+            return index < 0 ? NOT_FOUND : this.array[2 * index + 1];
+        }
+
+        public Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapIndexedNode(edit, bitFor(this.hash, shift), new Object[]{null, this})
+                        .assoc(edit, shift, hash, key, value, added);
+            }
+
+            int index = this.indexOf(key);
+
+            if (index >= 0) {
+                if (this.array[2 * index + 1] == value) return this;
+
+                if (this.isEditable(edit)) {
+                    this.array[2 * index + 1] = value;
+                    return this;
+                }
+
+                return new CollisionNode(edit, this.hash, copyWith(this.array, 2 * index + 1, value), this.count);
+            }
+
+            added[0] = true;
+            Object[] newArray = new Object[2 * (this.count + 1)];
+            System.arraycopy(this.array, 0, newArray, 0, 2 * this.count);
+            newArray[2 * this.count] = key;
+            newArray[2 * this.count + 1] = value;
+
+            if (this.isEditable(edit)) {
+                this.array = newArray;
+                this.count++;
+                return this;
+            }
+
+            return new CollisionNode(edit, this.hash, newArray, this.count + 1);
+        }
+
+        public Node without(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            int index = this.indexOf(key);
+
+            if (index < 0) return this;
+
+            removed[0] = true;
+            if (this.count == 1) return null;
+
+            Object[] newArray = new Object[2 * (this.count - 1)];
+            System.arraycopy(this.array, 0, newArray, 0, 2 * index);
+            System.arraycopy(this.array, 2 * (index + 1), newArray, 2 * index, 2 * (this.count - index - 1));
+
+            if (this.isEditable(edit)) {
+                this.array = newArray;
+                this.count--;
+                return this;
+            }
+
+            return new CollisionNode(edit, this.hash, newArray, this.count - 1);
+        }
+    }
+
+    private abstract static class TrieIterator<E> implements Iterator<E> {
+        private final Node[] nodes;
+        private final int[] positions;
+        private int depth;
+        private Object nextKey;
+        private Object nextValue;
+        protected Object currentKey;
+        protected Object currentValue;
+
+        public TrieIterator(Node root) {
+            this.nodes = new Node[8];
+            this.positions = new int[8];
+            this.depth = -1;
+
+            if (root != null) {
+                this.depth = 0;
+                this.nodes[0] = root;
+                this.positions[0] = 0;
+            }
+
+            this.advance();
+        }
+
+        private void advance() {
+            this.nextKey = null;
+
+            while (this.depth >= 0) {
+                Node node = this.nodes[this.depth];
+                int position = this.positions[this.depth];
+
+                if (position >= node.pairCount()) {
+                    this.depth--;
+                    continue;
+                }
+
+                this.positions[this.depth]++;
+                Object key = node.array[2 * position];
+                Object value = node.array[2 * position + 1];
+
+                if (key == null) {
+                    this.depth++;
+                    this.nodes[this.depth] = (Node) value;
+                    this.positions[this.depth] = 0;
+                } else {
+                    this.nextKey = key;
+                    this.nextValue = value;
+                    return;
+                }
+            }
+        }
+
+        protected void moveNext() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            this.currentKey = this.nextKey;
+            this.currentValue = this.nextValue;
+            this.advance();
+        }
+
+        public boolean hasNext() {
+            return this.nextKey != null;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class KeyIterator<K> extends TrieIterator<K> {
+        public KeyIterator(Node root) {
+            super(root);
+        }
+
+        public K next() {
+            this.moveNext();
+            return (K) this.currentKey;
+        }
+    }
+
+    private static class ValueIterator<V> extends TrieIterator<V> {
+        public ValueIterator(Node root) {
+            super(root);
+        }
+
+        public V next() {
+            this.moveNext();
+            return (V) this.currentValue;
+        }
+    }
+}
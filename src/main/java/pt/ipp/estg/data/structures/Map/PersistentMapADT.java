@@ -0,0 +1,25 @@
+package pt.ipp.estg.data.structures.Map;
+
+import java.util.function.BiConsumer;
+
+public interface PersistentMapADT<K, V> {
+    V get(K key);
+
+    boolean containsKey(K key);
+
+    PersistentMapADT<K, V> put(K key, V value);
+
+    PersistentMapADT<K, V> remove(K key);
+
+    Iterable<K> keys();
+
+    Iterable<V> values();
+
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    boolean isEmpty();
+
+    int size();
+
+    String toString();
+}
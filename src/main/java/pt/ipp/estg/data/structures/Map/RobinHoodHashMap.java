@@ -0,0 +1,413 @@
+package pt.ipp.estg.data.structures.Map;
+
+import pt.ipp.estg.data.structures.Exceptions.ElementNotFoundException;
+import pt.ipp.estg.data.structures.List.UnorderedLinkedList;
+import pt.ipp.estg.data.structures.List.UnorderedListADT;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+public class RobinHoodHashMap<K, V> implements MapADT<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private final float loadFactor;
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size;
+    private MapStatistics statistics;
+
+    public RobinHoodHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public RobinHoodHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public RobinHoodHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+
+        this.loadFactor = loadFactor;
+        this.statistics = null;
+        this.allocate(tableSizeFor((int) Math.ceil(initialCapacity / loadFactor)));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = DEFAULT_CAPACITY;
+
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+
+        return n;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = (K[]) (new Object[capacity]);
+        this.values = (V[]) (new Object[capacity]);
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = Math.min((int) (capacity * this.loadFactor), capacity - 1);
+        this.size = 0;
+    }
+
+    private int probeDistance(int slot) {
+        return (slot - (this.hashes[slot] & this.mask)) & this.mask;
+    }
+
+    private int findSlot(Object key, int hash) {
+        int slot = hash & this.mask;
+        int distance = 0;
+
+        while (this.keys[slot] != null && distance <= this.probeDistance(slot)) {
+            if (this.hashes[slot] == hash && this.keys[slot].equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & this.mask;
+            distance++;
+        }
+
+        return -1;
+    }
+
+    private void expandCapacity() {
+        if (this.keys.length == MAXIMUM_CAPACITY) throw new IllegalStateException("Map is full");
+
+        long start = this.statistics == null ? 0 : System.nanoTime();
+        K[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+        int oldSize = this.size;
+
+        this.allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                this.insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+
+        this.size = oldSize;
+
+        if (this.statistics != null) this.statistics.recordResize(System.nanoTime() - start);
+    }
+
+    private void insert(K key, V value, int hash) {
+        int slot = hash & this.mask;
+        int distance = 0;
+
+        while (this.keys[slot] != null) {
+            int residentDistance = this.probeDistance(slot);
+
+            if (residentDistance < distance) {
+                K tempKey = this.keys[slot];
+                V tempValue = this.values[slot];
+                int tempHash = this.hashes[slot];
+
+                this.keys[slot] = key;
+                this.values[slot] = value;
+                this.hashes[slot] = hash;
+
+                key = tempKey;
+                value = tempValue;
+                hash = tempHash;
+                distance = residentDistance;
+            }
+
+            slot = (slot + 1) & this.mask;
+            distance++;
+        }
+
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.hashes[slot] = hash;
+    }
+
+    private void removeSlot(int slot) {
+        int next = (slot + 1) & this.mask;
+
+        while (this.keys[next] != null && this.probeDistance(next) > 0) {
+            this.keys[slot] = this.keys[next];
+            this.values[slot] = this.values[next];
+            this.hashes[slot] = this.hashes[next];
+            slot = next;
+            next = (next + 1) & this.mask;
+        }
+
+        this.keys[slot] = null;
+        this.values[slot] = null;
+        this.hashes[slot] = 0;
+        this.size--;
+    }
+
+    public V get(K key) {
+        int slot = this.findSlot(key, hash(key));
+
+        if (this.statistics != null) this.statistics.recordGet(slot >= 0);
+
+        return slot < 0 ? null : this.values[slot];
+    }
+
+    public void put(K key, V value) {
+        if (this.statistics != null) this.statistics.recordPut();
+
+        int hash = hash(key);
+        int slot = this.findSlot(key, hash);
+
+        if (slot >= 0) {
+            this.values[slot] = value;
+            return;
+        }
+
+        if (this.size >= this.threshold) this.expandCapacity();
+
+        this.insert(key, value, hash);
+        this.size++;
+    }
+
+    public boolean putAll(MapADT.Entry<K, V>[] entries) {
+        for (MapADT.Entry<K, V> entry : entries) {
+            while (entry != null) {
+                this.put(entry.getKey(), entry.getValue());
+                entry = entry.getNext();
+            }
+        }
+
+        return true;
+    }
+
+    public void remove(K key) {
+        if (this.statistics != null) this.statistics.recordRemove();
+
+        int slot = this.findSlot(key, hash(key));
+
+        if (slot >= 0) this.removeSlot(slot);
+    }
+
+    public boolean containsKey(K key) {
+        int slot = this.findSlot(key, hash(key));
+
+        if (this.statistics != null) this.statistics.recordGet(slot >= 0);
+
+        return slot >= 0;
+    }
+
+    public boolean containsValue(V value) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null && this.values[i].equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public UnorderedListADT<K> getKeys() {
+        UnorderedListADT<K> list = new UnorderedLinkedList<>();
+
+        for (K key : this.keys) {
+            if (key != null) {
+                list.addToRear(key);
+            }
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<V> getValues() {
+        UnorderedListADT<V> list = new UnorderedLinkedList<>();
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                list.addToRear(this.values[i]);
+            }
+        }
+
+        return list;
+    }
+
+    public UnorderedListADT<MapADT.Entry<K, V>> getEntries() {
+        UnorderedListADT<MapADT.Entry<K, V>> list = new UnorderedLinkedList<>();
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                list.addToRear(new Entry(this.keys[i], this.values[i]));
+            }
+        }
+
+        return list;
+    }
+
+    public Iterable<K> keys() {
+        return () -> new KeyIterator();
+    }
+
+    public Iterable<V> values() {
+        return () -> new ValueIterator();
+    }
+
+    public Iterable<MapADT.Entry<K, V>> entries() {
+        return () -> new EntryIterator();
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                action.accept(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        this.allocate(DEFAULT_CAPACITY);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void enableStatistics() {
+        if (this.statistics == null) this.statistics = new MapStatistics();
+    }
+
+    public void disableStatistics() {
+        this.statistics = null;
+    }
+
+    public MapStatistics getStatistics() {
+        if (this.statistics == null) return null;
+
+        this.statistics.recordLayout(this.keys.length, this.size);
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                this.statistics.recordProbeLength(this.probeDistance(i) + 1);
+            }
+        }
+
+        return this.statistics;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                sb.append(this.keys[i]);
+                sb.append("=");
+                sb.append(this.values[i]);
+                sb.append(", ");
+            }
+        }
+        if (sb.length() > 1) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        private final K[] keys;
+        private int slot;
+
+        public SlotIterator() {
+            this.keys = RobinHoodHashMap.this.keys;
+            this.slot = 0;
+            this.advance();
+        }
+
+        private void advance() {
+            while (this.slot < this.keys.length && this.keys[this.slot] == null) {
+                this.slot++;
+            }
+        }
+
+        protected int nextSlot() {
+            if (!this.hasNext()) throw new ElementNotFoundException("Map");
+
+            int result = this.slot;
+            this.slot++;
+            this.advance();
+
+            return result;
+        }
+
+        public boolean hasNext() {
+            return this.slot < this.keys.length;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class KeyIterator extends SlotIterator<K> {
+        public K next() {
+            return RobinHoodHashMap.this.keys[this.nextSlot()];
+        }
+    }
+
+    private class ValueIterator extends SlotIterator<V> {
+        public V next() {
+            return RobinHoodHashMap.this.values[this.nextSlot()];
+        }
+    }
+
+    private class EntryIterator extends SlotIterator<MapADT.Entry<K, V>> {
+        public MapADT.Entry<K, V> next() {
+            int slot = this.nextSlot();
+            return new Entry(RobinHoodHashMap.this.keys[slot], RobinHoodHashMap.this.values[slot]);
+        }
+    }
+
+    private class Entry implements MapADT.Entry<K, V> {
+        private final K key;
+        private V value;
+        private MapADT.Entry<K, V> next;
+
+        public Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+            this.next = null;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public void setKey(K key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public void setValue(V value) {
+            this.value = value;
+            RobinHoodHashMap.this.put(this.key, value);
+        }
+
+        public MapADT.Entry<K, V> getNext() {
+            return next;
+        }
+
+        public void setNext(MapADT.Entry<K, V> next) {
+            this.next = next;
+        }
+    }
+}
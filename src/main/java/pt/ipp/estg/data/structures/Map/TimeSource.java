@@ -0,0 +1,7 @@
+package pt.ipp.estg.data.structures.Map;
+
+public interface TimeSource {
+    TimeSource SYSTEM = System::nanoTime;
+
+    long nanoTime();
+}
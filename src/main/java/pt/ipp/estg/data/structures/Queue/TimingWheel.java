@@ -0,0 +1,244 @@
+package pt.ipp.estg.data.structures.Queue;
+
+import java.util.function.Consumer;
+
+public class TimingWheel<T> {
+    private static final int LEVELS = 6;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private final long tickNanos;
+    private final long startTime;
+    private final Timeout<T>[][] slots;
+    private final long[] occupied;
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickNanos, long startTime) {
+        if (tickNanos <= 0) throw new IllegalArgumentException("Illegal tick duration: " + tickNanos);
+
+        this.tickNanos = tickNanos;
+        this.startTime = startTime;
+        this.slots = (Timeout<T>[][]) new Timeout<?>[LEVELS][SLOTS];
+        this.occupied = new long[LEVELS];
+        this.currentTick = 0;
+        this.size = 0;
+    }
+
+    private long tickFor(long deadline) {
+        long elapsed = deadline - this.startTime;
+
+        if (elapsed <= 0) return 0;
+
+        long tick = elapsed / this.tickNanos;
+        return elapsed % this.tickNanos == 0 ? tick : tick + 1;
+    }
+
+    private void link(Timeout<T> timeout) {
+        long tick = Math.max(timeout.expiryTick, this.currentTick + 1);
+        int level = (63 - Long.numberOfLeadingZeros(tick ^ this.currentTick)) / SLOT_BITS;
+        int slot;
+
+        if (level < LEVELS) {
+            slot = (int) (tick >>> (level * SLOT_BITS)) & SLOT_MASK;
+        } else {
+            level = LEVELS - 1;
+            slot = ((int) (this.currentTick >>> (level * SLOT_BITS)) & SLOT_MASK) == 0 ? SLOT_MASK : 0;
+        }
+
+        Timeout<T> head = this.slots[level][slot];
+
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) head.previous = timeout;
+
+        this.slots[level][slot] = timeout;
+        this.occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            this.slots[timeout.level][timeout.slot] = timeout.next;
+            if (timeout.next == null) this.occupied[timeout.level] &= ~(1L << timeout.slot);
+        }
+
+        if (timeout.next != null) timeout.next.previous = timeout.previous;
+
+        timeout.previous = null;
+        timeout.next = null;
+    }
+
+    public Timeout<T> schedule(T value, long deadline) {
+        Timeout<T> timeout = new Timeout<>(this, value);
+
+        this.reschedule(timeout, deadline);
+
+        return timeout;
+    }
+
+    public void reschedule(Timeout<T> timeout, long deadline) {
+        if (timeout.wheel != this) throw new IllegalArgumentException("Timeout belongs to another wheel");
+
+        if (timeout.scheduled) {
+            this.unlink(timeout);
+        } else {
+            this.size++;
+        }
+
+        timeout.deadline = deadline;
+        timeout.expiryTick = this.tickFor(deadline);
+        timeout.scheduled = true;
+        this.link(timeout);
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.wheel != this || !timeout.scheduled) return false;
+
+        this.unlink(timeout);
+        timeout.scheduled = false;
+        this.size--;
+
+        return true;
+    }
+
+    private long nextEventTick() {
+        long next = Long.MAX_VALUE;
+
+        for (int level = 0; level < LEVELS; level++) {
+            if (this.occupied[level] == 0) continue;
+
+            int shift = level * SLOT_BITS;
+            int digit = (int) (this.currentTick >>> shift) & SLOT_MASK;
+            long ahead = digit == SLOT_MASK ? 0 : this.occupied[level] & (-1L << (digit + 1));
+            long rotation = (this.currentTick >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+            long tick;
+
+            if (ahead != 0) {
+                tick = rotation + ((long) Long.numberOfTrailingZeros(ahead) << shift);
+            } else if (level == LEVELS - 1) {
+                tick = rotation + (1L << (shift + SLOT_BITS)) + ((long) Long.numberOfTrailingZeros(this.occupied[level]) << shift);
+            } else {
+                continue;
+            }
+
+            next = Math.min(next, tick);
+        }
+
+        return next;
+    }
+
+    private int expireSlot(int level, int slot, Consumer<? super T> action) {
+        int expired = 0;
+
+        while (this.slots[level][slot] != null) {
+            Timeout<T> timeout = this.slots[level][slot];
+
+            this.unlink(timeout);
+
+            if (timeout.expiryTick <= this.currentTick) {
+                timeout.scheduled = false;
+                this.size--;
+                expired++;
+                action.accept(timeout.value);
+            } else {
+                this.link(timeout);
+            }
+        }
+
+        return expired;
+    }
+
+    public int advance(long now, Consumer<? super T> action) {
+        long target = this.tickFor(now + 1) - 1;
+        int expired = 0;
+
+        while (this.currentTick < target) {
+            long next = this.nextEventTick();
+
+            if (next > target) {
+                this.currentTick = target;
+                break;
+            }
+
+            this.currentTick = next;
+
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                int shift = level * SLOT_BITS;
+
+                if ((this.currentTick & ((1L << shift) - 1)) != 0) continue;
+
+                int slot = (int) (this.currentTick >>> shift) & SLOT_MASK;
+                if ((this.occupied[level] & (1L << slot)) != 0) expired += this.expireSlot(level, slot, action);
+            }
+        }
+
+        return expired;
+    }
+
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timeout<T> timeout = this.slots[level][slot];
+
+                while (timeout != null) {
+                    Timeout<T> next = timeout.next;
+                    timeout.scheduled = false;
+                    timeout.previous = null;
+                    timeout.next = null;
+                    timeout = next;
+                }
+
+                this.slots[level][slot] = null;
+            }
+            this.occupied[level] = 0;
+        }
+
+        this.size = 0;
+    }
+
+    public long getTickDuration() {
+        return this.tickNanos;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public static class Timeout<T> {
+        private final TimingWheel<T> wheel;
+        private final T value;
+        private long deadline;
+        private long expiryTick;
+        private boolean scheduled;
+        private int level;
+        private int slot;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, T value) {
+            this.wheel = wheel;
+            this.value = value;
+            this.scheduled = false;
+        }
+
+        public T getValue() {
+            return this.value;
+        }
+
+        public long getDeadline() {
+            return this.deadline;
+        }
+
+        public boolean isScheduled() {
+            return this.scheduled;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package pt.ipp.estg.data.structures.Tree;
+
+import pt.ipp.estg.data.structures.Exceptions.EmptyCollectionException;
+
+import java.util.Arrays;
+
+public class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] keys;
+    private int count;
+
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        this.count = 0;
+        Arrays.fill(this.positions, -1);
+    }
+
+    private void checkItem(int item) {
+        if (item < 0 || item >= this.positions.length) throw new IllegalArgumentException("Illegal item: " + item);
+    }
+
+    private void siftUp(int position) {
+        int item = this.heap[position];
+        double key = this.keys[item];
+
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentItem = this.heap[parent];
+            if (this.keys[parentItem] <= key) break;
+
+            this.heap[position] = parentItem;
+            this.positions[parentItem] = position;
+            position = parent;
+        }
+
+        this.heap[position] = item;
+        this.positions[item] = position;
+    }
+
+    private void siftDown(int position) {
+        int item = this.heap[position];
+        double key = this.keys[item];
+
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= this.count) break;
+            if (child + 1 < this.count && this.keys[this.heap[child + 1]] < this.keys[this.heap[child]]) child++;
+
+            int childItem = this.heap[child];
+            if (key <= this.keys[childItem]) break;
+
+            this.heap[position] = childItem;
+            this.positions[childItem] = position;
+            position = child;
+        }
+
+        this.heap[position] = item;
+        this.positions[item] = position;
+    }
+
+    public void add(int item, double key) {
+        this.checkItem(item);
+        if (this.positions[item] != -1) throw new IllegalArgumentException("Item already present: " + item);
+
+        this.keys[item] = key;
+        this.heap[this.count] = item;
+        this.positions[item] = this.count;
+        this.count++;
+        this.siftUp(this.count - 1);
+    }
+
+    public void decreaseKey(int item, double key) {
+        this.checkItem(item);
+        if (this.positions[item] == -1) throw new IllegalArgumentException("Item not present: " + item);
+        if (key > this.keys[item]) throw new IllegalArgumentException("Key increased: " + key + " > " + this.keys[item]);
+
+        this.keys[item] = key;
+        this.siftUp(this.positions[item]);
+    }
+
+    public boolean addOrDecreaseKey(int item, double key) {
+        this.checkItem(item);
+
+        if (this.positions[item] == -1) {
+            this.add(item, key);
+            return true;
+        }
+
+        if (key >= this.keys[item]) return false;
+
+        this.keys[item] = key;
+        this.siftUp(this.positions[item]);
+        return true;
+    }
+
+    public void updateKey(int item, double key) {
+        this.checkItem(item);
+        if (this.positions[item] == -1) throw new IllegalArgumentException("Item not present: " + item);
+
+        double previous = this.keys[item];
+        this.keys[item] = key;
+
+        if (key < previous) {
+            this.siftUp(this.positions[item]);
+        } else {
+            this.siftDown(this.positions[item]);
+        }
+    }
+
+    public int removeMin() {
+        if (this.isEmpty()) throw new EmptyCollectionException("Heap");
+
+        int minItem = this.heap[0];
+        this.positions[minItem] = -1;
+        this.count--;
+
+        if (this.count > 0) {
+            this.heap[0] = this.heap[this.count];
+            this.siftDown(0);
+        }
+
+        return minItem;
+    }
+
+    public int findMin() {
+        if (this.isEmpty()) throw new EmptyCollectionException("Heap");
+
+        return this.heap[0];
+    }
+
+    public double findMinKey() {
+        if (this.isEmpty()) throw new EmptyCollectionException("Heap");
+
+        return this.keys[this.heap[0]];
+    }
+
+    public double getKey(int item) {
+        this.checkItem(item);
+        if (this.positions[item] == -1) throw new IllegalArgumentException("Item not present: " + item);
+
+        return this.keys[item];
+    }
+
+    public boolean contains(int item) {
+        return item >= 0 && item < this.positions.length && this.positions[item] != -1;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.count; i++) {
+            this.positions[this.heap[i]] = -1;
+        }
+
+        this.count = 0;
+    }
+
+    public int capacity() {
+        return this.positions.length;
+    }
+
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    public int size() {
+        return this.count;
+    }
+}